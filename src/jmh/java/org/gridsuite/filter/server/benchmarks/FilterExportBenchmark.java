@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.FilterLoader;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.expertfilter.expertrule.CombinatorExpertRule;
+import org.gridsuite.filter.expertfilter.expertrule.EnumExpertRule;
+import org.gridsuite.filter.expertfilter.expertrule.NumberExpertRule;
+import org.gridsuite.filter.identifierlistfilter.FilterEquipments;
+import org.gridsuite.filter.identifierlistfilter.IdentifiableAttributes;
+import org.gridsuite.filter.server.FilterCache;
+import org.gridsuite.filter.server.FilterMetrics;
+import org.gridsuite.filter.server.FilterService;
+import org.gridsuite.filter.server.NetworkCache;
+import org.gridsuite.filter.server.NotificationService;
+import org.gridsuite.filter.server.RepositoryService;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.FilterServiceUtils;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Export of several generator expert filters on a generated network, compared to their one by one evaluation
+ * by the filter library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FilterExportBenchmark {
+
+    @Param({"1000", "20000"})
+    private int substationCount;
+
+    @Param({"1", "50"})
+    private int filterCount;
+
+    private Network network;
+
+    private List<UUID> filterIds;
+
+    private FilterLoader filterLoader;
+
+    private GenericApplicationContext context;
+
+    private FilterService filterService;
+
+    @Setup
+    public void setUp() {
+        network = GeneratedNetworks.create(substationCount);
+        List<AbstractFilter> filters = IntStream.range(0, filterCount)
+            .mapToObj(i -> (AbstractFilter) new ExpertFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+                CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(
+                    EnumExpertRule.builder().field(FieldType.COUNTRY).operator(OperatorType.IN).values(Set.of("FR", "BE")).build(),
+                    NumberExpertRule.builder().field(FieldType.NOMINAL_VOLTAGE).operator(OperatorType.IN).values(Set.of(225., 400.)).build(),
+                    NumberExpertRule.builder().field(FieldType.TARGET_P).operator(OperatorType.GREATER).value((double) i * 10).build()
+                )).build()))
+            .toList();
+        filterIds = filters.stream().map(AbstractFilter::getId).toList();
+        Map<UUID, AbstractFilter> filtersById = filters.stream().collect(Collectors.toMap(AbstractFilter::getId, Function.identity()));
+        filterLoader = uuids -> uuids.stream().map(filtersById::get).toList();
+        // only the filter cache and the metrics are used to export filters on an already loaded network,
+        // the service is built by the context so that its constructor arguments are resolved by type
+        context = new GenericApplicationContext();
+        context.registerBean(FilterCache.class, () -> new FilterCache(1000, Duration.ofMinutes(10)));
+        context.registerBean(FilterMetrics.class, () -> new FilterMetrics(new SimpleMeterRegistry()));
+        context.registerBean(RepositoryService.class, () -> mock(RepositoryService.class));
+        context.registerBean(NetworkCache.class, () -> mock(NetworkCache.class));
+        context.registerBean(NotificationService.class, () -> mock(NotificationService.class));
+        context.registerBean(FilterService.class);
+        context.refresh();
+        filterService = context.getBean(FilterService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<FilterEquipments> exportFilters() {
+        return filterService.exportFilters(filterIds, network, Set.of(), filterLoader);
+    }
+
+    @Benchmark
+    public List<List<IdentifiableAttributes>> libraryEvaluation() {
+        return filterLoader.getFilters(filterIds).stream()
+            .map(filter -> FilterServiceUtils.getIdentifiableAttributes(filter, network, filterLoader))
+            .toList();
+    }
+}
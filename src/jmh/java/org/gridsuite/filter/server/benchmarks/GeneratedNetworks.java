@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.benchmarks;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+
+/**
+ * In-memory networks of configurable size for the benchmarks: a chain of substations, each holding one voltage level
+ * with a bus, a generator and a load, every voltage level being linked to the next one by a line.
+ */
+final class GeneratedNetworks {
+
+    private static final double[] NOMINAL_VOLTAGES = {63, 90, 225, 400};
+    private static final Country[] COUNTRIES = {Country.FR, Country.BE, Country.DE};
+
+    private GeneratedNetworks() {
+    }
+
+    static Network create(int substationCount) {
+        Network network = new NetworkFactoryImpl().createNetwork("generated", "benchmark");
+        VoltageLevel previousVoltageLevel = null;
+        for (int i = 0; i < substationCount; i++) {
+            Substation substation = network.newSubstation()
+                .setId("S" + i)
+                .setCountry(COUNTRIES[i % COUNTRIES.length])
+                .add();
+            VoltageLevel voltageLevel = substation.newVoltageLevel()
+                .setId("VL" + i)
+                .setNominalV(NOMINAL_VOLTAGES[i % NOMINAL_VOLTAGES.length])
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+            voltageLevel.getBusBreakerView().newBus().setId("B" + i).add();
+            voltageLevel.newGenerator()
+                .setId("G" + i)
+                .setBus("B" + i)
+                .setConnectableBus("B" + i)
+                .setEnergySource(EnergySource.values()[i % EnergySource.values().length])
+                .setMinP(0)
+                .setMaxP(100 + i % 1000)
+                .setTargetP(i % 500)
+                .setTargetV(voltageLevel.getNominalV())
+                .setVoltageRegulatorOn(true)
+                .add();
+            voltageLevel.newLoad()
+                .setId("L" + i)
+                .setBus("B" + i)
+                .setConnectableBus("B" + i)
+                .setP0(i % 200)
+                .setQ0(0)
+                .add();
+            if (previousVoltageLevel != null) {
+                network.newLine()
+                    .setId("LINE" + i)
+                    .setVoltageLevel1(previousVoltageLevel.getId())
+                    .setBus1("B" + (i - 1))
+                    .setVoltageLevel2(voltageLevel.getId())
+                    .setBus2("B" + i)
+                    .setR(1)
+                    .setX(10)
+                    .add();
+            }
+            previousVoltageLevel = voltageLevel;
+        }
+        return network;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.benchmarks;
+
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEntity;
+import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEquipmentEntity;
+import org.gridsuite.filter.server.repositories.proxies.identifierlistfilter.IdentifierListFilterRepositoryProxy;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Mapping of large identifier list filters from their entity to their DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdentifierListMappingBenchmark {
+
+    @Param({"100000"})
+    private int identifierCount;
+
+    // the repository is not used to map an entity to its DTO
+    private final IdentifierListFilterRepositoryProxy proxy = new IdentifierListFilterRepositoryProxy(null);
+
+    private IdentifierListFilterEntity entity;
+
+    @Setup
+    public void setUp() {
+        entity = IdentifierListFilterEntity.builder()
+            .id(UUID.randomUUID())
+            .modificationDate(new Date())
+            .equipmentType(EquipmentType.GENERATOR)
+            .filterEquipmentEntityList(IntStream.range(0, identifierCount)
+                .mapToObj(i -> IdentifierListFilterEquipmentEntity.builder()
+                    .equipmentId("G" + i)
+                    .distributionKey((double) i)
+                    .build())
+                .toList())
+            .build();
+    }
+
+    @Benchmark
+    public AbstractFilter toDto() {
+        return proxy.toDto(entity);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.benchmarks;
+
+import org.gridsuite.filter.expertfilter.expertrule.*;
+import org.gridsuite.filter.server.entities.expertfilter.ExpertRuleEntity;
+import org.gridsuite.filter.server.repositories.proxies.expertfiler.ExpertFilterRepositoryProxy;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Mapping of deep expert rule trees between their DTO and entity forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RuleMappingBenchmark {
+
+    @Param({"3", "6"})
+    private int depth;
+
+    @Param({"4"})
+    private int breadth;
+
+    private AbstractExpertRule rules;
+
+    private ExpertRuleEntity ruleEntity;
+
+    @Setup
+    public void setUp() {
+        rules = createRules(depth);
+        ruleEntity = ExpertFilterRepositoryProxy.dtoToEntity(rules);
+    }
+
+    private AbstractExpertRule createRules(int remainingDepth) {
+        List<AbstractExpertRule> children = new ArrayList<>();
+        children.add(NumberExpertRule.builder().field(FieldType.NOMINAL_VOLTAGE).operator(OperatorType.IN)
+            .values(Set.of(63., 90., 225., 400.)).build());
+        children.add(StringExpertRule.builder().field(FieldType.ID).operator(OperatorType.IN)
+            .values(IntStream.range(0, 50).mapToObj(i -> "G" + i).collect(Collectors.toSet())).build());
+        if (remainingDepth > 1) {
+            for (int i = 0; i < breadth - children.size(); i++) {
+                children.add(createRules(remainingDepth - 1));
+            }
+        }
+        return CombinatorExpertRule.builder()
+            .combinator(remainingDepth % 2 == 0 ? CombinatorType.AND : CombinatorType.OR)
+            .rules(children)
+            .build();
+    }
+
+    @Benchmark
+    public ExpertRuleEntity dtoToEntity() {
+        return ExpertFilterRepositoryProxy.dtoToEntity(rules);
+    }
+
+    @Benchmark
+    public AbstractExpertRule entityToDto() {
+        return ExpertFilterRepositoryProxy.entityToDto(ruleEntity);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.benchmarks;
+
+import com.powsybl.iidm.network.IdentifiableType;
+import com.powsybl.iidm.network.Network;
+import org.gridsuite.filter.FilterLoader;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifiableAttributes;
+import org.gridsuite.filter.server.evaluation.CompiledExpertFilter;
+import org.gridsuite.filter.server.utils.FilterWithEquipmentTypesUtils;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.FilterServiceUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Creation of the sub equipments filters of a substation filter, followed by their evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SubEquipmentsFiltersBenchmark {
+
+    private static final FilterLoader NO_FILTER_LOADER = uuids -> List.of();
+
+    @Param({"1000", "20000"})
+    private int substationCount;
+
+    @Param({"100"})
+    private int filteredSubstationCount;
+
+    private Network network;
+
+    private Set<String> substationIds;
+
+    @Setup
+    public void setUp() {
+        network = GeneratedNetworks.create(substationCount);
+        substationIds = IntStream.range(0, filteredSubstationCount).mapToObj(i -> "S" + i).collect(Collectors.toSet());
+    }
+
+    private List<ExpertFilter> createFilters() {
+        return FilterWithEquipmentTypesUtils.createFiltersForSubEquipments(EquipmentType.SUBSTATION, substationIds,
+            Set.of(IdentifiableType.GENERATOR, IdentifiableType.LOAD));
+    }
+
+    @Benchmark
+    public List<List<IdentifiableAttributes>> libraryEvaluation() {
+        return createFilters().stream()
+            .map(filter -> FilterServiceUtils.getIdentifiableAttributes(filter, network, NO_FILTER_LOADER))
+            .toList();
+    }
+
+    @Benchmark
+    public List<List<IdentifiableAttributes>> compiledEvaluation() {
+        return createFilters().stream()
+            .map(filter -> CompiledExpertFilter.compile(filter).evaluate(network, NO_FILTER_LOADER))
+            .toList();
+    }
+}
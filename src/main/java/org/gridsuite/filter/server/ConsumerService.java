@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import org.gridsuite.filter.server.NotificationService.FilterChangeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.gridsuite.filter.server.NotificationService.HEADER_FILTER_CHANGE_TYPE;
+
+/**
+ * Consumes the filter changes notified by any filter server instance (including this one)
+ * to evict the changed filters from the local {@link FilterCache}.
+ */
+@Service
+public class ConsumerService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsumerService.class);
+
+    private final FilterCache filterCache;
+
+    public ConsumerService(FilterCache filterCache) {
+        this.filterCache = filterCache;
+    }
+
+    @Bean
+    public Consumer<Message<String>> consumeFilterChanged() {
+        return message -> {
+            String changeType = message.getHeaders().get(HEADER_FILTER_CHANGE_TYPE, String.class);
+            if (FilterChangeType.ALL_DELETED.name().equals(changeType)) {
+                filterCache.evictAll();
+                return;
+            }
+            try {
+                List<UUID> filterUuids = Arrays.stream(message.getPayload().split(","))
+                    .filter(uuid -> !uuid.isEmpty())
+                    .map(UUID::fromString)
+                    .toList();
+                filterCache.evict(filterUuids);
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Invalid filter changed message, evicting all the cached filters", e);
+                filterCache.evictAll();
+            }
+        };
+    }
+}
@@ -16,4 +16,6 @@ public final class FilterApi {
     }
 
     public static final String API_VERSION = "v1";
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
 }
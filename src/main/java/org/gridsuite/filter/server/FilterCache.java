@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.server.dto.CacheStatistics;
+import org.gridsuite.filter.server.evaluation.CompiledExpertFilter;
+import org.gridsuite.filter.server.evaluation.IdentifierListIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of the filters DTOs, keyed by filter id.
+ * Cached filters are shared between requests: they must only be read (evaluation, export),
+ * never modified. Paths that modify a filter DTO must load it from the repositories.
+ * The compiled form of the expert filters and the hashed index of the identifier lists are cached alongside,
+ * keyed by the identity of the DTO they were built from: they are dropped when their DTO is evicted and no longer referenced.
+ * Every eviction increments a generation, and filters loaded while the generation changed are not cached: their load may
+ * have read the version the eviction was meant to drop.
+ */
+@Component
+public class FilterCache {
+
+    private final Cache<UUID, AbstractFilter> filters;
+
+    private final Cache<ExpertFilter, CompiledExpertFilter> compiledFilters;
+
+    private final Cache<IdentifierListFilter, IdentifierListIndex> identifierListIndexes;
+
+    /**
+     * Write locked to evict, read locked to cache loaded filters, so that no load of a previous generation
+     * can be cached after an eviction.
+     */
+    private final ReadWriteLock generationLock = new ReentrantReadWriteLock();
+
+    private long generation;
+
+    public FilterCache(@Value("${filter-server.cache.filters.maximum-size:10000}") long maximumSize,
+                       @Value("${filter-server.cache.filters.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.filters = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        this.compiledFilters = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+        this.identifierListIndexes = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+    }
+
+    /**
+     * Get the filters of the given ids, the missing ones are loaded all at once by the loader.
+     * @param loader loads the filters of the given ids, ids of not found filters are absent from the result and not cached
+     * @return the found filters by id
+     */
+    public Map<UUID, AbstractFilter> getAll(Collection<UUID> ids, Function<Set<? extends UUID>, Map<UUID, AbstractFilter>> loader) {
+        Map<UUID, AbstractFilter> foundFilters = new HashMap<>(filters.getAllPresent(ids));
+        Set<UUID> missingIds = new LinkedHashSet<>(ids);
+        missingIds.removeAll(foundFilters.keySet());
+        if (missingIds.isEmpty()) {
+            return foundFilters;
+        }
+        long loadGeneration = getGeneration();
+        Map<UUID, AbstractFilter> loadedFilters = loader.apply(missingIds);
+        generationLock.readLock().lock();
+        try {
+            if (generation == loadGeneration) {
+                filters.putAll(loadedFilters);
+            }
+        } finally {
+            generationLock.readLock().unlock();
+        }
+        foundFilters.putAll(loadedFilters);
+        return foundFilters;
+    }
+
+    private long getGeneration() {
+        generationLock.readLock().lock();
+        try {
+            return generation;
+        } finally {
+            generationLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the compiled form of the given expert filter, compiling it on first use.
+     */
+    public CompiledExpertFilter getCompiledFilter(ExpertFilter filter) {
+        return compiledFilters.get(filter, expertFilter -> CompiledExpertFilter.compile(expertFilter, this::getIdentifierListIndex));
+    }
+
+    /**
+     * Get the hashed index of the given identifier list filter, building it on first use.
+     */
+    public IdentifierListIndex getIdentifierListIndex(IdentifierListFilter filter) {
+        return identifierListIndexes.get(filter, IdentifierListIndex::of);
+    }
+
+    /**
+     * Evict the given filters, and evict them again at the end of the current transaction if any,
+     * so that a concurrent reader cannot keep a version loaded before the commit.
+     */
+    public void evict(Collection<UUID> ids) {
+        List<UUID> evictedIds = List.copyOf(ids);
+        invalidate(() -> filters.invalidateAll(evictedIds));
+        afterTransaction(() -> invalidate(() -> filters.invalidateAll(evictedIds)));
+    }
+
+    public void evictAll() {
+        invalidate(filters::invalidateAll);
+        compiledFilters.invalidateAll();
+        identifierListIndexes.invalidateAll();
+        afterTransaction(() -> invalidate(filters::invalidateAll));
+    }
+
+    private void invalidate(Runnable invalidation) {
+        generationLock.writeLock().lock();
+        try {
+            generation++;
+            invalidation.run();
+        } finally {
+            generationLock.writeLock().unlock();
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        CacheStats stats = filters.stats();
+        return new CacheStatistics(filters.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private static void afterTransaction(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    runnable.run();
+                }
+            });
+        }
+    }
+}
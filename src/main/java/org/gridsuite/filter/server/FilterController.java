@@ -6,6 +6,7 @@
  */
 package org.gridsuite.filter.server;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -18,11 +19,13 @@ import org.gridsuite.filter.identifierlistfilter.FilteredIdentifiables;
 import org.gridsuite.filter.identifierlistfilter.IdentifiableAttributes;
 import org.gridsuite.filter.server.dto.CountWithMissingUuids;
 import org.gridsuite.filter.server.dto.IdsByGroup;
+import org.gridsuite.filter.server.utils.NdjsonUtils;
 import org.gridsuite.filter.utils.FiltersWithEquipmentTypes;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -43,9 +46,11 @@ import java.util.stream.Collectors;
 public class FilterController {
 
     private final FilterService service;
+    private final ObjectMapper objectMapper;
 
-    public FilterController(FilterService service) {
+    public FilterController(FilterService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping(value = "/filters/infos", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -154,7 +159,7 @@ public class FilterController {
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(service.getFilters(ids));
     }
 
-    @GetMapping(value = "/filters/{id}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/filters/{id}/export", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, FilterApi.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Export a filter to JSON format")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The filter on JSON format")})
     public ResponseEntity<List<IdentifiableAttributes>> exportFilter(@PathVariable("id") UUID id,
@@ -163,9 +168,20 @@ public class FilterController {
         Optional<List<IdentifiableAttributes>> identifiableAttributes = service.exportFilter(id, networkUuid, variantId);
         Logger.getLogger("export").info(() -> String.format("simple net:%s, variant:%s, id:%s, res:%s",
             networkUuid, variantId, id, identifiableAttributes.map(List::size)).replaceAll("[$\n\r\t]", "_"));
-        return identifiableAttributes.map(identifiables -> ResponseEntity.ok()
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(identifiables))
+        return identifiableAttributes.map(identifiables -> ResponseEntity.ok().body(identifiables))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/filters/{id}/export/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export a filter, streaming one JSON document per matched identifiable")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The matched identifiables"),
+        @ApiResponse(responseCode = "404", description = "The filter does not exist")})
+    public ResponseEntity<StreamingResponseBody> exportFilterStream(@PathVariable("id") UUID id,
+                                                                    @RequestParam(value = "networkUuid") UUID networkUuid,
+                                                                    @RequestParam(value = "variantId", required = false) String variantId) {
+        // evaluated before streaming, so that the network is released before the response is written
+        return service.exportFilter(id, networkUuid, variantId)
+            .map(identifiables -> ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(NdjsonUtils.body(objectMapper, identifiables)))
             .orElse(ResponseEntity.notFound().build());
     }
 
@@ -180,7 +196,7 @@ public class FilterController {
                 .body(service.getIdentifiablesCountByGroup(idsByGroup, networkUuid, variantId));
     }
 
-    @GetMapping(value = "/filters/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/filters/export", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, FilterApi.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Export list of filters to JSON format")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The filters on JSON format")})
     public ResponseEntity<List<FilterEquipments>> exportFilters(@RequestParam("ids") List<UUID> ids,
@@ -189,12 +205,20 @@ public class FilterController {
         List<FilterEquipments> ret = service.exportFilters(ids, networkUuid, variantId);
         Logger.getLogger("export").info(() -> String.format("multiple net:%s, variant:%s, ids:%s,%ngot:%d",
             networkUuid, variantId, ids.stream().map(UUID::toString).collect(Collectors.joining()), ret.size()).replaceAll("[$\r]", "_"));
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(ret);
+        return ResponseEntity.ok().body(ret);
+    }
+
+    @GetMapping(value = "/filters/export/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export list of filters, streaming one JSON document per filter")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The filters equipments")})
+    public ResponseEntity<StreamingResponseBody> exportFiltersStream(@RequestParam("ids") List<UUID> ids,
+                                                                     @RequestParam(value = "networkUuid") UUID networkUuid,
+                                                                     @RequestParam(value = "variantId", required = false) String variantId) {
+        List<FilterEquipments> filterEquipments = service.exportFilters(ids, networkUuid, variantId);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(NdjsonUtils.body(objectMapper, filterEquipments));
     }
 
-    @GetMapping(value = "/filters/export/busIds", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/filters/export/busIds", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, FilterApi.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Export a list of voltage level filters to bus ids in a JSON format")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The filters on JSON format")})
     public ResponseEntity<List<FilterEquipments>> exportFiltersBus(@RequestParam("ids") List<UUID> ids,
@@ -203,12 +227,20 @@ public class FilterController {
         List<FilterEquipments> ret = service.exportBusFromVoltageLevelFilters(ids, networkUuid, variantId);
         Logger.getLogger("export").info(() -> String.format("multiple net:%s, variant:%s, ids:%s,%ngot:%d",
                 networkUuid, variantId, ids.stream().map(UUID::toString).collect(Collectors.joining()), ret.size()).replaceAll("[$\r]", "_"));
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(ret);
+        return ResponseEntity.ok().body(ret);
+    }
+
+    @GetMapping(value = "/filters/export/busIds/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export a list of voltage level filters to bus ids, streaming one JSON document per filter")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The filters buses")})
+    public ResponseEntity<StreamingResponseBody> exportFiltersBusStream(@RequestParam("ids") List<UUID> ids,
+                                                                        @RequestParam(value = "networkUuid") UUID networkUuid,
+                                                                        @RequestParam(value = "variantId", required = false) String variantId) {
+        List<FilterEquipments> filterEquipments = service.exportBusFromVoltageLevelFilters(ids, networkUuid, variantId);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(NdjsonUtils.body(objectMapper, filterEquipments));
     }
 
-    @PostMapping(value = "/filters/evaluate/identifiables", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/filters/evaluate/identifiables", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, FilterApi.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Export matched identifiables elements to JSON format")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "The list of matched elements")
@@ -217,10 +249,10 @@ public class FilterController {
                                                                                    @RequestParam(value = "variantUuid", required = false) String variantUuid,
                                                                                    @RequestBody FiltersWithEquipmentTypes filters) {
         FilteredIdentifiables identifiableAttributes = service.evaluateFiltersWithEquipmentTypes(filters, networkUuid, variantUuid);
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(identifiableAttributes);
+        return ResponseEntity.ok().body(identifiableAttributes);
     }
 
-    @PostMapping(value = "/filters/evaluate", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/filters/evaluate", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, FilterApi.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Export matched elements to JSON format")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "The list of matched elements")
@@ -229,6 +261,6 @@ public class FilterController {
                                                                        @RequestParam(value = "variantId", required = false) String variantId,
                                                                        @RequestBody AbstractFilter filter) {
         List<IdentifiableAttributes> identifiableAttributes = service.evaluateFilter(filter, networkUuid, variantId);
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(identifiableAttributes);
+        return ResponseEntity.ok().body(identifiableAttributes);
     }
 }
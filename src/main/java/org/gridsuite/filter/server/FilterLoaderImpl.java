@@ -9,37 +9,76 @@ package org.gridsuite.filter.server;
 import org.gridsuite.filter.AbstractFilter;
 import org.gridsuite.filter.FilterLoader;
 import org.gridsuite.filter.server.repositories.proxies.AbstractFilterRepositoryProxy;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Request scoped filter loader: the missing filters of each call are taken from the shared {@link FilterCache},
+ * or loaded with one query per repository, and every loaded (or not found) filter is memoized,
+ * so that a filter is read at most once per evaluation. A new instance must be used for each request.
+ * Filters are read in a read-only transaction, joining the current one if any, so that the loader
+ * can be used from the threads evaluating the filters in parallel.
+ *
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
  */
 public class FilterLoaderImpl implements FilterLoader {
     private final Map<String, AbstractFilterRepositoryProxy<?, ?>> filterRepositories;
+    private final FilterCache filterCache;
+    private final TransactionOperations transactionOperations;
+    private final FilterMetrics filterMetrics;
+    private final Map<UUID, Optional<AbstractFilter>> loadedFilters = new ConcurrentHashMap<>();
 
-    public FilterLoaderImpl(Map<String, AbstractFilterRepositoryProxy<?, ?>> filterRepositories) {
+    public FilterLoaderImpl(Map<String, AbstractFilterRepositoryProxy<?, ?>> filterRepositories, FilterCache filterCache,
+                            TransactionOperations transactionOperations, FilterMetrics filterMetrics) {
         this.filterRepositories = filterRepositories;
+        this.filterCache = filterCache;
+        this.transactionOperations = transactionOperations;
+        this.filterMetrics = filterMetrics;
     }
 
-    private Optional<AbstractFilter> getFilter(UUID id) {
-        Objects.requireNonNull(id);
+    private Map<UUID, AbstractFilter> loadFromRepositories(Set<? extends UUID> uuids) {
+        Map<UUID, AbstractFilter> filters = new HashMap<>();
+        List<UUID> missingUuids = new ArrayList<>(uuids);
         for (AbstractFilterRepositoryProxy<?, ?> repository : filterRepositories.values()) {
-            Optional<AbstractFilter> res = repository.getFilter(id);
-            if (res.isPresent()) {
-                return res;
+            if (missingUuids.isEmpty()) {
+                break;
             }
+            filterMetrics.timeFilterLoad(repository.getFilterType(), () -> repository.getFilters(missingUuids))
+                .forEach(filter -> filters.put(filter.getId(), filter));
+            missingUuids.removeIf(filters::containsKey);
+        }
+        return filters;
+    }
+
+    private void loadMissingFilters(List<UUID> uuids) {
+        Set<UUID> missingUuids = new LinkedHashSet<>();
+        uuids.stream().map(Objects::requireNonNull).filter(id -> !loadedFilters.containsKey(id)).forEach(missingUuids::add);
+        if (!missingUuids.isEmpty()) {
+            int[] repositoryLoadCount = {0};
+            Map<UUID, AbstractFilter> filters = filterCache.getAll(missingUuids, uuidsToLoad -> {
+                Map<UUID, AbstractFilter> repositoryFilters = transactionOperations.execute(status -> loadFromRepositories(uuidsToLoad));
+                repositoryLoadCount[0] = repositoryFilters.size();
+                return repositoryFilters;
+            });
+            filterMetrics.countFilterLoads(repositoryLoadCount[0]);
+            missingUuids.forEach(id -> loadedFilters.put(id, Optional.ofNullable(filters.get(id))));
         }
-        return Optional.empty();
     }
 
     @Override
     public List<AbstractFilter> getFilters(List<UUID> uuids) {
+        loadMissingFilters(uuids);
         return uuids.stream()
-            .map(id -> getFilter(id).orElse(null)).toList();
+            .map(id -> loadedFilters.get(id).orElse(null)).toList();
     }
 }
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import com.powsybl.network.store.client.PreloadingStrategy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.FilterType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Timers and distribution summaries of the filter loading and evaluation stages.
+ * The meters are registered once per tags and reused.
+ */
+@Component
+public class FilterMetrics {
+
+    public static final String NETWORK_LOAD_TIMER = "filter.network.load";
+    public static final String NETWORK_WAIT_TIMER = "filter.network.wait";
+    public static final String FILTER_LOAD_TIMER = "filter.load";
+    public static final String FILTER_LOAD_COUNT = "filter.load.count";
+    public static final String EVALUATION_TIMER = "filter.evaluation";
+    public static final String EVALUATION_MATCHED_COUNT = "filter.evaluation.matched";
+    public static final String EVALUATION_EQUIPMENT_COUNT = "filter.evaluation.equipments";
+    public static final String GLOBAL_FILTER_TIMER = "filter.global.evaluation";
+
+    private static final String PRELOADING_STRATEGY_TAG = "preloading_strategy";
+    private static final String FILTER_TYPE_TAG = "filter_type";
+    private static final String EQUIPMENT_TYPE_TAG = "equipment_type";
+
+    private static final String REQUEST_FILTER_LOADS_ATTRIBUTE = FilterMetrics.class.getName() + ".filterLoads";
+
+    private record EvaluationTags(FilterType filterType, EquipmentType equipmentType) { }
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<PreloadingStrategy, Timer> networkLoadTimers = new ConcurrentHashMap<>();
+    private final Map<PreloadingStrategy, Timer> networkWaitTimers = new ConcurrentHashMap<>();
+    private final Map<FilterType, Timer> filterLoadTimers = new ConcurrentHashMap<>();
+    private final Map<EvaluationTags, Timer> evaluationTimers = new ConcurrentHashMap<>();
+    private final Map<EvaluationTags, DistributionSummary> matchedCounts = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> evaluatedEquipmentCounts = new ConcurrentHashMap<>();
+    private final DistributionSummary filterLoadCount;
+    private final Timer globalFilterTimer;
+
+    public FilterMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.filterLoadCount = DistributionSummary.builder(FILTER_LOAD_COUNT)
+            .description("Number of filters loaded from the repositories by a request")
+            .register(meterRegistry);
+        this.globalFilterTimer = Timer.builder(GLOBAL_FILTER_TIMER)
+            .description("Time to evaluate a global filter on a network")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Time the load of a network from the network store.
+     */
+    public <T> T timeNetworkLoad(PreloadingStrategy preloadingStrategy, Supplier<T> networkLoad) {
+        return networkLoadTimers.computeIfAbsent(preloadingStrategy, strategy -> Timer.builder(NETWORK_LOAD_TIMER)
+                .description("Time to load a network from the network store")
+                .tag(PRELOADING_STRATEGY_TAG, String.valueOf(strategy))
+                .register(meterRegistry))
+            .record(networkLoad);
+    }
+
+    /**
+     * Time the wait for an idle network instance or for the place of a new one.
+     */
+    public <T> T timeNetworkWait(PreloadingStrategy preloadingStrategy, Supplier<T> networkWait) {
+        return networkWaitTimers.computeIfAbsent(preloadingStrategy, strategy -> Timer.builder(NETWORK_WAIT_TIMER)
+                .description("Time waiting for a network instance to be released")
+                .tag(PRELOADING_STRATEGY_TAG, String.valueOf(strategy))
+                .register(meterRegistry))
+            .record(networkWait);
+    }
+
+    /**
+     * Time the load of filters from one repository.
+     */
+    public <T> T timeFilterLoad(FilterType filterType, Supplier<T> filterLoad) {
+        return filterLoadTimers.computeIfAbsent(filterType, type -> Timer.builder(FILTER_LOAD_TIMER)
+                .description("Time to load filters from a repository")
+                .tag(FILTER_TYPE_TAG, String.valueOf(type))
+                .register(meterRegistry))
+            .record(filterLoad);
+    }
+
+    /**
+     * Count filters loaded from the repositories. Within an HTTP request, the count is summed over the request
+     * and recorded once the request completes, otherwise it is recorded at once.
+     */
+    public void countFilterLoads(int filterCount) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            filterLoadCount.record(filterCount);
+            return;
+        }
+        LongAdder requestFilterLoads = (LongAdder) requestAttributes.getAttribute(REQUEST_FILTER_LOADS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (requestFilterLoads == null) {
+            LongAdder filterLoads = new LongAdder();
+            requestAttributes.setAttribute(REQUEST_FILTER_LOADS_ATTRIBUTE, filterLoads, RequestAttributes.SCOPE_REQUEST);
+            requestAttributes.registerDestructionCallback(REQUEST_FILTER_LOADS_ATTRIBUTE,
+                () -> filterLoadCount.record(filterLoads.sum()), RequestAttributes.SCOPE_REQUEST);
+            requestFilterLoads = filterLoads;
+        }
+        requestFilterLoads.add(filterCount);
+    }
+
+    /**
+     * Time the evaluation of filters of the same type on the same equipment type.
+     */
+    public <T> T timeEvaluation(FilterType filterType, EquipmentType equipmentType, Supplier<T> evaluation) {
+        return evaluationTimers.computeIfAbsent(new EvaluationTags(filterType, equipmentType), tags -> Timer.builder(EVALUATION_TIMER)
+                .description("Time to evaluate filters on a network")
+                .tag(FILTER_TYPE_TAG, String.valueOf(tags.filterType()))
+                .tag(EQUIPMENT_TYPE_TAG, String.valueOf(tags.equipmentType()))
+                .register(meterRegistry))
+            .record(evaluation);
+    }
+
+    public void recordMatchedCount(FilterType filterType, EquipmentType equipmentType, long matchedCount) {
+        matchedCounts.computeIfAbsent(new EvaluationTags(filterType, equipmentType), tags -> DistributionSummary.builder(EVALUATION_MATCHED_COUNT)
+                .description("Number of identifiables matched by a filter")
+                .tag(FILTER_TYPE_TAG, String.valueOf(tags.filterType()))
+                .tag(EQUIPMENT_TYPE_TAG, String.valueOf(tags.equipmentType()))
+                .register(meterRegistry))
+            .record(matchedCount);
+    }
+
+    public void recordEvaluatedEquipmentCount(EquipmentType equipmentType, long equipmentCount) {
+        // keyed by the tag value, as the equipment type may be null
+        evaluatedEquipmentCounts.computeIfAbsent(String.valueOf(equipmentType), type -> DistributionSummary.builder(EVALUATION_EQUIPMENT_COUNT)
+                .description("Number of equipments iterated by an evaluation pass")
+                .tag(EQUIPMENT_TYPE_TAG, type)
+                .register(meterRegistry))
+            .record(equipmentCount);
+    }
+
+    /**
+     * Time the evaluation of a global filter, which evaluates several equipment types at once: the timer is not tagged
+     * by equipment type.
+     */
+    public <T> T timeGlobalFilter(Supplier<T> evaluation) {
+        return globalFilterTimer.record(evaluation);
+    }
+}
@@ -18,15 +18,23 @@ import org.gridsuite.filter.AbstractFilter;
 import org.gridsuite.filter.FilterLoader;
 import org.gridsuite.filter.IFilterAttributes;
 import org.gridsuite.filter.exception.FilterCycleException;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
 import org.gridsuite.filter.identifierlistfilter.FilterAttributes;
 import org.gridsuite.filter.identifierlistfilter.FilterEquipments;
 import org.gridsuite.filter.identifierlistfilter.FilteredIdentifiables;
 import org.gridsuite.filter.identifierlistfilter.IdentifiableAttributes;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.server.NetworkCache.NetworkLease;
+import org.gridsuite.filter.server.NotificationService.FilterChangeType;
+import org.gridsuite.filter.server.dto.CacheStatistics;
 import org.gridsuite.filter.server.dto.CountWithMissingUuids;
+import org.gridsuite.filter.server.dto.FilterAttributesPage;
 import org.gridsuite.filter.server.dto.IdsByGroup;
 import org.gridsuite.filter.server.error.FilterBusinessErrorCode;
 import org.gridsuite.filter.server.error.FilterException;
+import org.gridsuite.filter.server.evaluation.CompiledExpertFilter;
 import org.gridsuite.filter.server.repositories.proxies.AbstractFilterRepositoryProxy;
+import org.gridsuite.filter.utils.EquipmentType;
 import org.gridsuite.filter.utils.FilterServiceUtils;
 import org.gridsuite.filter.utils.FilterType;
 import org.gridsuite.filter.utils.FiltersWithEquipmentTypes;
@@ -37,7 +45,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * @author Jacques Borsenberger <jacques.borsenberger at rte-france.com>
@@ -51,10 +62,13 @@ public class FilterService {
     private static final String FILTER_LIST = "Filter list ";
     private static final String NOT_FOUND = " not found";
     public static final String FILTER_UUIDS_NOT_FOUND = "Some filter uuids have not bean found";
+    private static final int LAZY_LOADING_MAX_IDENTIFIERS = 100;
 
     private final RepositoryService repositoriesService;
-    private final NetworkStoreService networkStoreService;
+    private final NetworkCache networkCache;
     private final NotificationService notificationService;
+    private final FilterCache filterCache;
+    private final FilterMetrics filterMetrics;
 
     public List<IFilterAttributes> getFilters() {
         return this.repositoriesService.getFiltersAttributes()
@@ -62,6 +76,19 @@ public class FilterService {
             .toList();
     }
 
+    public FilterAttributesPage getFilters(UUID after, int size) {
+        List<FilterAttributes> filters = this.repositoriesService.getFiltersAttributesAfter(after, size);
+        UUID nextCursor = filters.size() < size ? null : filters.getLast().getId();
+        return new FilterAttributesPage(filters, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamFilters(Consumer<FilterAttributes> consumer) {
+        try (Stream<FilterAttributes> filters = this.repositoriesService.streamFiltersAttributes()) {
+            filters.forEach(consumer);
+        }
+    }
+
     public List<FilterAttributes> getFiltersAttributes(List<UUID> filterUuids) {
         List<FilterAttributes> filterAttributes = this.repositoriesService.getFiltersAttributes(filterUuids).collect(Collectors.toList());
 
@@ -93,6 +120,7 @@ public class FilterService {
     }
 
     private AbstractFilter doCreateFilter(AbstractFilter filter) {
+        evictFilters(List.of(filter.getId()), FilterChangeType.UPDATED);
         return this.repositoriesService.getRepositoryFromType(filter).insert(filter);
     }
 
@@ -102,6 +130,7 @@ public class FilterService {
             return Collections.emptyList();
         }
 
+        evictFilters(filters.stream().map(AbstractFilter::getId).toList(), FilterChangeType.UPDATED);
         Map<AbstractFilterRepositoryProxy<?, ?>, List<AbstractFilter>> repositoryFiltersMap = filters.stream()
             .collect(Collectors.groupingBy(this.repositoriesService::getRepositoryFromType));
 
@@ -128,6 +157,15 @@ public class FilterService {
      */
     @Transactional
     public Map<UUID, UUID> duplicateFilters(List<UUID> filterUuids) {
+        if (this.repositoriesService.isDatabaseDuplicationSupported()) {
+            // rows are copied inside the database, the filters are not loaded
+            Map<UUID, UUID> uuidsMap = this.repositoriesService.duplicateFiltersInDatabase(filterUuids);
+            if (uuidsMap.isEmpty() || uuidsMap.size() != filterUuids.size()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, FILTER_UUIDS_NOT_FOUND);
+            }
+            return uuidsMap;
+        }
+
         Map<UUID, UUID> uuidsMap = new HashMap<>();
 
         List<AbstractFilter> sourceFilters = this.repositoriesService.getFilters(filterUuids);
@@ -161,22 +199,17 @@ public class FilterService {
         if (filterOpt.isPresent()) {
             newFilter.setId(id);
 
-            FilterLoader filterLoader = uuids -> uuids.stream()
-                .map(uuid -> uuid.equals(id) ? newFilter : repositoriesService.getFilter(uuid).orElse(null))
-                .toList();
-
-            try {
-                FilterCycleDetector.checkNoCycle(newFilter, filterLoader);
-            } catch (FilterCycleException exception) {
-                Map<String, Object> cyclicFilterIds = getCyclicFilterIds(exception);
-                throw new FilterException(
-                    FilterBusinessErrorCode.FILTER_CYCLE_DETECTED,
-                    exception.getMessage(),
-                    cyclicFilterIds
-                );
+            FilterLoader repositoryFilterLoader = this.repositoriesService.getFilterLoader();
+            FilterLoader filterLoader = uuids -> {
+                Iterator<AbstractFilter> loadedFilters = repositoryFilterLoader.getFilters(uuids.stream().filter(uuid -> !uuid.equals(id)).toList()).iterator();
+                return uuids.stream()
+                    .map(uuid -> uuid.equals(id) ? newFilter : loadedFilters.next())
+                    .toList();
+            };
 
-            }
+            checkNoCycle(newFilter, filterLoader);
 
+            evictFilters(List.of(id), FilterChangeType.UPDATED);
             AbstractFilter modifiedOrCreatedFilter;
             if (filterOpt.get().getType() == newFilter.getType()) { // filter type has not changed
                 modifiedOrCreatedFilter = this.repositoriesService.getRepositoryFromType(newFilter).modify(id, newFilter);
@@ -196,16 +229,61 @@ public class FilterService {
         }
     }
 
+    private void checkNoCycle(AbstractFilter filter, FilterLoader filterLoader) {
+        try {
+            FilterCycleDetector.checkNoCycle(filter, filterLoader);
+        } catch (FilterCycleException exception) {
+            Map<String, Object> cyclicFilterIds = getCyclicFilterIds(exception);
+            throw new FilterException(
+                FilterBusinessErrorCode.FILTER_CYCLE_DETECTED,
+                exception.getMessage(),
+                cyclicFilterIds
+            );
+        }
+    }
+
+    /**
+     * Update filters as a whole: the existence of the updated filters is checked with one query per repository,
+     * the cycle check of all the new filters shares the same loader, so that every referenced filter is loaded once,
+     * and the filters are replaced with batched deletes and inserts.
+     */
     @Transactional
     public List<AbstractFilter> updateFilters(Map<UUID, AbstractFilter> filtersToUpdateMap) {
-        return filtersToUpdateMap.keySet().stream()
-            .map(filterUuid -> doUpdateFilter(filterUuid, filtersToUpdateMap.get(filterUuid), null))
-            .toList();
+        if (filtersToUpdateMap.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<UUID> ids = new ArrayList<>(filtersToUpdateMap.keySet());
+        Set<UUID> storedIds;
+        try (Stream<FilterAttributes> filtersAttributes = this.repositoriesService.getFiltersAttributes(ids)) {
+            storedIds = filtersAttributes.map(FilterAttributes::getId).collect(Collectors.toSet());
+        }
+        ids.stream().filter(id -> !storedIds.contains(id)).findFirst().ifPresent(id -> {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, FILTER_LIST + id + NOT_FOUND);
+        });
+        filtersToUpdateMap.forEach((id, newFilter) -> newFilter.setId(id));
+
+        // the new filters hide their stored versions during the cycle check
+        FilterLoader repositoryFilterLoader = this.repositoriesService.getFilterLoader();
+        FilterLoader filterLoader = uuids -> {
+            Iterator<AbstractFilter> loadedFilters = repositoryFilterLoader.getFilters(uuids.stream()
+                .filter(uuid -> !filtersToUpdateMap.containsKey(uuid)).toList()).iterator();
+            return uuids.stream()
+                .map(uuid -> filtersToUpdateMap.containsKey(uuid) ? filtersToUpdateMap.get(uuid) : loadedFilters.next())
+                .toList();
+        };
+        filtersToUpdateMap.values().forEach(newFilter -> checkNoCycle(newFilter, filterLoader));
+
+        evictFilters(ids, FilterChangeType.UPDATED);
+        Map<UUID, AbstractFilter> updatedFilters = this.repositoriesService.updateFilters(new ArrayList<>(filtersToUpdateMap.values())).stream()
+            .collect(Collectors.toMap(AbstractFilter::getId, filter -> filter));
+        return ids.stream().map(updatedFilters::get).toList();
     }
 
     public void deleteFilter(UUID id) {
         Objects.requireNonNull(id);
-        if (!this.repositoriesService.deleteFilter(id)) {
+        boolean deleted = this.repositoriesService.deleteFilter(id);
+        evictFilters(List.of(id), FilterChangeType.DELETED);
+        if (!deleted) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, FILTER_LIST + id + NOT_FOUND);
         }
     }
@@ -213,111 +291,278 @@ public class FilterService {
     public void deleteFilters(List<UUID> ids) {
         Objects.requireNonNull(ids);
         this.repositoriesService.deleteFilters(ids);
+        evictFilters(ids, FilterChangeType.DELETED);
     }
 
     public void deleteAll() {
         this.repositoriesService.deleteAll();
+        filterCache.evictAll();
+        notificationService.emitFiltersChanged(List.of(), FilterChangeType.ALL_DELETED);
     }
 
-    private Network getNetwork(UUID networkUuid, String variantId) {
-        Network network = networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
-        if (network == null) {
+    /**
+     * Evict the changed filters from the local cache, and notify the other instances to evict them too.
+     */
+    private void evictFilters(List<UUID> ids, FilterChangeType changeType) {
+        filterCache.evict(ids);
+        notificationService.emitFiltersChanged(ids, changeType);
+    }
+
+    public CacheStatistics getFilterCacheStatistics() {
+        return filterCache.getStatistics();
+    }
+
+    public CacheStatistics getNetworkCacheStatistics() {
+        return networkCache.getStatistics();
+    }
+
+    public void evictNetwork(UUID networkUuid) {
+        networkCache.evict(networkUuid);
+    }
+
+    public void evictAllNetworks() {
+        networkCache.evictAll();
+    }
+
+    private NetworkLease acquireNetwork(UUID networkUuid, String variantId) {
+        return acquireNetwork(networkUuid, variantId, PreloadingStrategy.COLLECTION);
+    }
+
+    private NetworkLease acquireNetwork(UUID networkUuid, String variantId, Collection<AbstractFilter> filters) {
+        return acquireNetwork(networkUuid, variantId, getPreloadingStrategy(filters));
+    }
+
+    /**
+     * Acquire exclusive use of an instance of the network, the lease must be closed once the network is no longer read.
+     * The methods evaluating filters on a network are not transactional, so that a request waiting for a network instance
+     * does not hold a database connection: the filters are read by the {@link FilterLoader} in their own read-only transactions.
+     */
+    private NetworkLease acquireNetwork(UUID networkUuid, String variantId, PreloadingStrategy preloadingStrategy) {
+        NetworkLease lease = networkCache.acquire(networkUuid, variantId, preloadingStrategy);
+        if (lease == null) {
             throw new PowsyblException("Network '" + networkUuid + "' not found");
         }
-        if (variantId != null) {
-            network.getVariantManager().setWorkingVariant(variantId);
+        return lease;
+    }
+
+    /**
+     * Identifier list filters only read their listed equipments: when there are few of them it is cheaper to load
+     * them one by one than to load their whole collections. Otherwise, collections are loaded on first access to
+     * an equipment type, so only the types actually evaluated are loaded.
+     */
+    private static PreloadingStrategy getPreloadingStrategy(Collection<AbstractFilter> filters) {
+        long identifiersCount = 0;
+        for (AbstractFilter filter : filters) {
+            if (!(filter instanceof IdentifierListFilter identifierListFilter)) {
+                return PreloadingStrategy.COLLECTION;
+            }
+            identifiersCount += identifierListFilter.getFilterEquipmentsAttributes().size();
         }
-        return network;
+        return identifiersCount <= LAZY_LOADING_MAX_IDENTIFIERS ? PreloadingStrategy.NONE : PreloadingStrategy.COLLECTION;
     }
 
     private List<IdentifiableAttributes> getIdentifiableAttributes(AbstractFilter filter, UUID networkUuid, String variantId, FilterLoader filterLoader) {
-        Network network = getNetwork(networkUuid, variantId);
-        return FilterServiceUtils.getIdentifiableAttributes(filter, network, filterLoader);
+        try (NetworkLease lease = acquireNetwork(networkUuid, variantId, List.of(filter))) {
+            return getIdentifiableAttributes(filter, lease.getNetwork(), filterLoader);
+        }
+    }
+
+    /**
+     * Evaluate a filter on a network, expert filters on the supported equipment types being evaluated in their compiled form.
+     */
+    private List<IdentifiableAttributes> getIdentifiableAttributes(AbstractFilter filter, Network network, FilterLoader filterLoader) {
+        List<IdentifiableAttributes> identifiableAttributes = filterMetrics.timeEvaluation(filter.getType(), filter.getEquipmentType(), () -> {
+            if (filter instanceof ExpertFilter expertFilter && CompiledExpertFilter.supports(expertFilter.getEquipmentType())) {
+                return CompiledExpertFilter.evaluate(List.of(filterCache.getCompiledFilter(expertFilter)), network, filterLoader,
+                    equipmentCount -> filterMetrics.recordEvaluatedEquipmentCount(expertFilter.getEquipmentType(), equipmentCount)).getFirst();
+            }
+            return FilterServiceUtils.getIdentifiableAttributes(filter, network, filterLoader);
+        });
+        filterMetrics.recordMatchedCount(filter.getType(), filter.getEquipmentType(), identifiableAttributes.size());
+        return identifiableAttributes;
     }
 
-    @Transactional(readOnly = true)
     public List<IdentifiableAttributes> evaluateFilter(AbstractFilter filter, UUID networkUuid, String variantId) {
         Objects.requireNonNull(filter);
         return getIdentifiableAttributes(filter, networkUuid, variantId, this.repositoriesService.getFilterLoader());
     }
 
-    @Transactional(readOnly = true)
     public FilteredIdentifiables evaluateFiltersWithEquipmentTypes(FiltersWithEquipmentTypes filtersWithEquipmentTypes, UUID networkUuid, String variantId) {
-        Network network = getNetwork(networkUuid, variantId);
         FilterLoader filterLoader = this.repositoriesService.getFilterLoader();
-
-        return FilterServiceUtils.evaluateFiltersWithEquipmentTypes(filtersWithEquipmentTypes, network, filterLoader);
+        try (NetworkLease lease = acquireNetwork(networkUuid, variantId)) {
+            return FilterServiceUtils.evaluateFiltersWithEquipmentTypes(filtersWithEquipmentTypes, lease.getNetwork(), filterLoader);
+        }
     }
 
-    @Transactional(readOnly = true)
     public Optional<List<IdentifiableAttributes>> exportFilter(UUID id, UUID networkUuid, String variantId) {
         Objects.requireNonNull(id);
         final FilterLoader filterLoader = this.repositoriesService.getFilterLoader();
-        return this.repositoriesService.getFilter(id).map(filter -> getIdentifiableAttributes(filter, networkUuid, variantId, filterLoader));
+        return Optional.ofNullable(filterLoader.getFilters(List.of(id)).getFirst())
+            .map(filter -> getIdentifiableAttributes(filter, networkUuid, variantId, filterLoader));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Count the distinct identifiables of each group of filters. The network is acquired once, and each distinct filter
+     * of the request is evaluated once on it.
+     * Only the ids of the matched identifiables are collected, no {@link IdentifiableAttributes} are built for
+     * the compiled expert filters.
+     */
     public Map<String, CountWithMissingUuids> getIdentifiablesCountByGroup(IdsByGroup idsByGroup, UUID networkUuid, String variantId) {
         Objects.requireNonNull(idsByGroup);
         final FilterLoader filterLoader = this.repositoriesService.getFilterLoader();
+        List<UUID> requestedFilterIds = idsByGroup.getIds().values().stream().flatMap(List::stream).distinct().toList();
+        Map<UUID, AbstractFilter> foundFilters = filterLoader.getFilters(requestedFilterIds).stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(AbstractFilter::getId, filter -> filter));
+
+        Map<UUID, Collection<String>> identifiableIdsByFilter = new HashMap<>();
+        if (!foundFilters.isEmpty()) {
+            try (NetworkLease lease = acquireNetwork(networkUuid, variantId, foundFilters.values())) {
+                foundFilters.values().forEach(filter -> identifiableIdsByFilter.put(filter.getId(), getIdentifiableIds(filter, lease.getNetwork(), filterLoader)));
+            }
+        }
+
         return idsByGroup.getIds().entrySet().stream()
             .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    entry -> {
-                        List<UUID> requestedFilterIds = entry.getValue();
-                        List<AbstractFilter> foundFilters = this.repositoriesService.getFilters(requestedFilterIds);
-
-                        List<UUID> foundFilterIds = foundFilters.stream().map(AbstractFilter::getId).toList();
-                        List<UUID> missingFilterIds = requestedFilterIds.stream().filter(uuid -> !foundFilterIds.contains(uuid)).toList();
+                Map.Entry::getKey,
+                entry -> {
+                    List<Collection<String>> groupIdentifiableIds = new ArrayList<>();
+                    List<UUID> missingFilterIds = new ArrayList<>();
+                    Set<UUID> foundFilterIds = new HashSet<>();
+                    entry.getValue().forEach(filterId -> {
+                        Collection<String> filterIdentifiableIds = identifiableIdsByFilter.get(filterId);
+                        if (filterIdentifiableIds == null) {
+                            missingFilterIds.add(filterId);
+                        } else if (foundFilterIds.add(filterId)) {
+                            groupIdentifiableIds.add(filterIdentifiableIds);
+                        }
+                    });
+                    return new CountWithMissingUuids(countDistinct(groupIdentifiableIds), missingFilterIds);
+                }));
+    }
 
-                        Long count = foundFilters.stream()
-                            .flatMap(filter -> getIdentifiableAttributes(filter, networkUuid, variantId, filterLoader).stream())
-                            .distinct()
-                            .count();
+    /**
+     * @param identifiableIds the distinct ids matched by each filter of a group
+     */
+    private static long countDistinct(List<Collection<String>> identifiableIds) {
+        // the identifiables of a single filter are already distinct
+        if (identifiableIds.size() == 1) {
+            return identifiableIds.getFirst().size();
+        }
+        Set<String> distinctIds = HashSet.newHashSet(identifiableIds.stream().mapToInt(Collection::size).sum());
+        identifiableIds.forEach(distinctIds::addAll);
+        return distinctIds.size();
+    }
 
-                    return new CountWithMissingUuids(count, missingFilterIds);
-                }));
+    /**
+     * @return the distinct ids of the identifiables matched by the filter
+     */
+    private Collection<String> getIdentifiableIds(AbstractFilter filter, Network network, FilterLoader filterLoader) {
+        if (filter instanceof ExpertFilter expertFilter && CompiledExpertFilter.supports(expertFilter.getEquipmentType())) {
+            // an identifiable is matched at most once by an expert filter
+            List<String> identifiableIds = new ArrayList<>();
+            long equipmentCount = filterMetrics.timeEvaluation(FilterType.EXPERT, expertFilter.getEquipmentType(), () -> filterCache.getCompiledFilter(expertFilter)
+                .forEachMatch(network, filterLoader, identifiable -> identifiableIds.add(identifiable.getId())));
+            filterMetrics.recordEvaluatedEquipmentCount(expertFilter.getEquipmentType(), equipmentCount);
+            filterMetrics.recordMatchedCount(FilterType.EXPERT, expertFilter.getEquipmentType(), identifiableIds.size());
+            return identifiableIds;
+        }
+        return getIdentifiableAttributes(filter, network, filterLoader).stream()
+            .map(IdentifiableAttributes::getId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-    @Transactional(readOnly = true)
     public List<FilterEquipments> exportFilters(List<UUID> ids, UUID networkUuid, String variantId) {
-        Network network = getNetwork(networkUuid, variantId);
-        return exportFilters(ids, network, Set.of(), this.repositoriesService.getFilterLoader());
+        // filters are memoized by the loader, so loading them first to choose the preloading strategy is free
+        FilterLoader filterLoader = this.repositoriesService.getFilterLoader();
+        List<AbstractFilter> filters = filterLoader.getFilters(ids).stream().filter(Objects::nonNull).toList();
+        try (NetworkLease lease = acquireNetwork(networkUuid, variantId, filters)) {
+            return exportFilters(ids, lease.getNetwork(), Set.of(), filterLoader);
+        }
     }
 
-    @Transactional(readOnly = true)
     public List<FilterEquipments> exportBusFromVoltageLevelFilters(List<UUID> ids, UUID networkUuid, String variantId) {
-        Network network = getNetwork(networkUuid, variantId);
-        List<FilterEquipments> filterEquipments = exportFilters(ids, network, Set.of(), this.repositoriesService.getFilterLoader());
-        return filterEquipments.stream().map(filterEquipment -> {
-            List<IdentifiableAttributes> busIds = new ArrayList<>();
-            List<String> notFoundVoltageLevels = new ArrayList<>();
-            if (filterEquipment.getNotFoundEquipments() != null) {
-                notFoundVoltageLevels.addAll(filterEquipment.getNotFoundEquipments());
+        try (NetworkLease lease = acquireNetwork(networkUuid, variantId)) {
+            Network network = lease.getNetwork();
+            List<FilterEquipments> filterEquipments = exportFilters(ids, network, Set.of(), this.repositoriesService.getFilterLoader());
+            Map<String, Optional<List<IdentifiableAttributes>>> busesByVoltageLevel = new HashMap<>();
+            return filterEquipments.stream().map(filterEquipment -> toBusFilterEquipments(filterEquipment, network, busesByVoltageLevel)).toList();
+        }
+    }
+
+    /**
+     * @param busesByVoltageLevel the buses of the voltage levels already computed for the request, empty for the voltage
+     *                            levels not found, so that the bus view of a voltage level shared by several filters
+     *                            is only computed once
+     */
+    private static FilterEquipments toBusFilterEquipments(FilterEquipments filterEquipment, Network network,
+                                                          Map<String, Optional<List<IdentifiableAttributes>>> busesByVoltageLevel) {
+        List<IdentifiableAttributes> busIds = new ArrayList<>();
+        List<String> notFoundVoltageLevels = new ArrayList<>();
+        if (filterEquipment.getNotFoundEquipments() != null) {
+            notFoundVoltageLevels.addAll(filterEquipment.getNotFoundEquipments());
+        }
+        filterEquipment.getIdentifiableAttributes().forEach(identifiableAttribute -> {
+            if (identifiableAttribute.getType() != IdentifiableType.VOLTAGE_LEVEL) {
+                throw new IllegalStateException("Cannot export bus ids for non-voltage level filters");
             }
-            filterEquipment.getIdentifiableAttributes().forEach(identifiableAttribute -> {
-                if (identifiableAttribute.getType() != IdentifiableType.VOLTAGE_LEVEL) {
-                    throw new IllegalStateException("Cannot export bus ids for non-voltage level filters");
-                }
-                VoltageLevel voltageLevel = network.getVoltageLevel(identifiableAttribute.getId());
-                if (voltageLevel == null) {
-                    notFoundVoltageLevels.add(identifiableAttribute.getId());
-                } else {
-                    voltageLevel.getBusView().getBusStream().forEach(bus ->
-                            busIds.add(new IdentifiableAttributes(bus.getId(), IdentifiableType.BUS, null)));
-                }
-            });
-            return new FilterEquipments(filterEquipment.getFilterId(), busIds, notFoundVoltageLevels);
-        }).toList();
+            busesByVoltageLevel.computeIfAbsent(identifiableAttribute.getId(), voltageLevelId -> getBuses(network, voltageLevelId))
+                .ifPresentOrElse(busIds::addAll, () -> notFoundVoltageLevels.add(identifiableAttribute.getId()));
+        });
+        return new FilterEquipments(filterEquipment.getFilterId(), busIds, notFoundVoltageLevels);
+    }
+
+    private static Optional<List<IdentifiableAttributes>> getBuses(Network network, String voltageLevelId) {
+        VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
+        if (voltageLevel == null) {
+            return Optional.empty();
+        }
+        return Optional.of(voltageLevel.getBusView().getBusStream()
+            .map(bus -> new IdentifiableAttributes(bus.getId(), IdentifiableType.BUS, null))
+            .toList());
     }
 
     public List<FilterEquipments> exportFilters(List<UUID> ids, Network network, Set<FilterType> filterTypesToExclude, FilterLoader filterLoader) {
-        // we stream on the ids so that we can keep the same order of ids sent
-        return ids.stream()
-            .map(id -> this.repositoriesService.getFilter(id).orElse(null))
+        // the loader keeps the same order of ids sent
+        List<AbstractFilter> filters = filterLoader.getFilters(ids).stream()
             .filter(filter -> filter != null && !filterTypesToExclude.contains(filter.getType()))
-            .map(filter -> filter.toFilterEquipments(FilterServiceUtils.getIdentifiableAttributes(filter, network, filterLoader)))
             .toList();
+        List<List<IdentifiableAttributes>> identifiableAttributes = getIdentifiableAttributes(filters, network, filterLoader);
+        return IntStream.range(0, filters.size())
+            .mapToObj(i -> filters.get(i).toFilterEquipments(identifiableAttributes.get(i)))
+            .toList();
+    }
+
+    /**
+     * Evaluate several filters on a network, the compiled expert filters of a same equipment type being evaluated
+     * in a single pass over the equipments of this type.
+     * @return the matched identifiables of each filter, in the order of the given filters
+     */
+    private List<List<IdentifiableAttributes>> getIdentifiableAttributes(List<AbstractFilter> filters, Network network, FilterLoader filterLoader) {
+        List<List<IdentifiableAttributes>> results = new ArrayList<>(Collections.nCopies(filters.size(), null));
+        Map<EquipmentType, List<Integer>> compiledFilterIndexesByType = new EnumMap<>(EquipmentType.class);
+        for (int i = 0; i < filters.size(); i++) {
+            AbstractFilter filter = filters.get(i);
+            if (filter instanceof ExpertFilter expertFilter && CompiledExpertFilter.supports(expertFilter.getEquipmentType())) {
+                compiledFilterIndexesByType.computeIfAbsent(expertFilter.getEquipmentType(), type -> new ArrayList<>()).add(i);
+            } else {
+                results.set(i, getIdentifiableAttributes(filter, network, filterLoader));
+            }
+        }
+        compiledFilterIndexesByType.values().forEach(indexes -> {
+            List<CompiledExpertFilter> compiledFilters = indexes.stream()
+                .map(i -> filterCache.getCompiledFilter((ExpertFilter) filters.get(i)))
+                .toList();
+            EquipmentType equipmentType = compiledFilters.getFirst().getEquipmentType();
+            List<List<IdentifiableAttributes>> compiledResults = filterMetrics.timeEvaluation(FilterType.EXPERT, equipmentType,
+                () -> CompiledExpertFilter.evaluate(compiledFilters, network, filterLoader,
+                    equipmentCount -> filterMetrics.recordEvaluatedEquipmentCount(equipmentType, equipmentCount)));
+            for (int j = 0; j < indexes.size(); j++) {
+                results.set(indexes.get(j), compiledResults.get(j));
+                filterMetrics.recordMatchedCount(FilterType.EXPERT, equipmentType, compiledResults.get(j).size());
+            }
+        });
+        return results;
     }
 
     private Map<String, Object> getCyclicFilterIds(FilterCycleException exception) {
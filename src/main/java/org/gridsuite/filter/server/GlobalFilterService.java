@@ -2,13 +2,12 @@ package org.gridsuite.filter.server;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.network.store.client.NetworkStoreService;
-import com.powsybl.network.store.client.PreloadingStrategy;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import org.gridsuite.filter.AbstractFilter;
 import org.gridsuite.filter.globalfilter.AbstractGlobalFilterService;
 import org.gridsuite.filter.globalfilter.GlobalFilter;
+import org.gridsuite.filter.server.NetworkCache.NetworkLease;
 import org.gridsuite.filter.utils.EquipmentType;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -16,21 +15,37 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 @AllArgsConstructor
 public class GlobalFilterService extends AbstractGlobalFilterService {
-    private final NetworkStoreService networkStoreService;
+    private final NetworkCache networkCache;
     private final RepositoryService repositoriesService;
+    private final FilterMetrics filterMetrics;
+    private final ThreadLocal<Network> leasedNetwork = new ThreadLocal<>();
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     * The network is only read within {@link #getFilteredIds}, which holds the lease on it for the current thread.
+     */
     @Override
     protected Network getNetwork(@NonNull final UUID networkUuid, @NonNull final String variantId) {
+        Network network = leasedNetwork.get();
+        if (network == null) {
+            throw new IllegalStateException("Network '" + networkUuid + "' is only read while leased by getFilteredIds");
+        }
+        return network;
+    }
+
+    private NetworkLease acquireNetwork(UUID networkUuid, String variantId) {
         try {
-            Network network = networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
-            network.getVariantManager().setWorkingVariant(variantId);
-            return network;
+            NetworkLease lease = networkCache.acquire(networkUuid, variantId);
+            if (lease == null) {
+                throw new PowsyblException("Network '" + networkUuid + "' not found");
+            }
+            return lease;
         } catch (final PowsyblException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
@@ -40,7 +55,7 @@ public class GlobalFilterService extends AbstractGlobalFilterService {
     @Override
     @Transactional(readOnly = true)
     public List<AbstractFilter> getFilters(@NonNull final List<UUID> filtersUuids) {
-        return this.repositoriesService.getFilters(filtersUuids);
+        return this.repositoriesService.getFilterLoader().getFilters(filtersUuids).stream().filter(Objects::nonNull).toList();
     }
 
     /* Expose it publicly */
@@ -49,6 +64,11 @@ public class GlobalFilterService extends AbstractGlobalFilterService {
     public List<String> getFilteredIds(@NonNull final UUID networkUuid, @NonNull final String variantId,
                                        @NonNull final GlobalFilter globalFilter,
                                        @NonNull final List<EquipmentType> equipmentTypes) {
-        return super.getFilteredIds(networkUuid, variantId, globalFilter, equipmentTypes);
+        try (NetworkLease lease = acquireNetwork(networkUuid, variantId)) {
+            leasedNetwork.set(lease.getNetwork());
+            return filterMetrics.timeGlobalFilter(() -> super.getFilteredIds(networkUuid, variantId, globalFilter, equipmentTypes));
+        } finally {
+            leasedNetwork.remove();
+        }
     }
 }
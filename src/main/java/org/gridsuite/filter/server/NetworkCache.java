@@ -0,0 +1,418 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import org.gridsuite.filter.server.dto.CacheStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pools of the network instances loaded from the network store, shared between requests.
+ * A network instance must only be read, never modified.
+ * <p>
+ * The network store client fills its collections and identifiables caches lazily and is not thread safe:
+ * a network instance is only handed out through a {@link NetworkLease}, which gives its holder exclusive use
+ * of the instance until it is closed. Concurrent requests on the same network each use their own instance,
+ * loaded when no idle instance is available, up to a maximum number of instances per network beyond which
+ * the requests wait for an instance to be released. The lease sets the working variant of the instance on the requested variant.
+ * <p>
+ * A released instance is kept idle for reuse until it expires, a short time after its load, within a bounded
+ * number of idle instances. Nothing notifies the modifications of a network inside an existing variant: the instances
+ * are only reused when an expiry is configured, accepting that a modification is seen once the instances loaded
+ * before it expire. By default an instance is dropped once released, and each request loads its own one.
+ * An instance is also dropped when its network is evicted, see {@link #evict(UUID)}, or when a requested variant
+ * is not known by it. An instance whose load started before an eviction is dropped once released.
+ */
+@Component
+public class NetworkCache {
+
+    private record NetworkKey(UUID networkUuid, PreloadingStrategy preloadingStrategy) { }
+
+    /**
+     * An instance of a network, compared by identity.
+     */
+    private static final class PooledNetwork {
+        private final Network network;
+        private final long generation;
+        private final long loadTime;
+
+        private PooledNetwork(Network network, long generation, long loadTime) {
+            this.network = network;
+            this.generation = generation;
+            this.loadTime = loadTime;
+        }
+    }
+
+    /**
+     * The instances of a network loaded with a preloading strategy, each one used by a single lease at a time.
+     */
+    private final class NetworkPool {
+        private final NetworkKey key;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+        private final Deque<PooledNetwork> idleNetworks = new ArrayDeque<>();
+        // instances idle, leased or being loaded
+        private int size;
+        // incremented on eviction, the instances loaded in a previous generation are not reused
+        private long generation;
+        // requests using the pool, only read and written in the computations of the pools map
+        private int users;
+
+        private NetworkPool(NetworkKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Take the most recently released idle instance, or reserve the place of a new instance,
+         * waiting while all the instances are leased and the pool is full.
+         * @return the idle instance, or null if a new instance must be loaded
+         */
+        private PooledNetwork take() {
+            lock.lock();
+            try {
+                while (true) {
+                    PooledNetwork idleNetwork = idleNetworks.pollFirst();
+                    if (idleNetwork != null) {
+                        idleNetworkCache.invalidate(idleNetwork);
+                        if (isFresh(idleNetwork)) {
+                            return idleNetwork;
+                        }
+                        drop();
+                    } else if (size < instancesPerNetwork) {
+                        size++;
+                        return null;
+                    } else {
+                        released.awaitUninterruptibly();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long getGeneration() {
+            lock.lock();
+            try {
+                return generation;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Release a leased instance, kept idle if it can still be reused.
+         */
+        private void release(PooledNetwork pooledNetwork) {
+            lock.lock();
+            try {
+                if (retainIdleNetworks && pooledNetwork.generation == generation && isFresh(pooledNetwork)) {
+                    idleNetworks.addFirst(pooledNetwork);
+                    idleNetworkCache.put(pooledNetwork, this);
+                    released.signal();
+                } else {
+                    drop();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Free the place reserved for an instance whose load failed or did not find the network.
+         */
+        private void cancel() {
+            lock.lock();
+            try {
+                size--;
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Drop an instance leased or just removed from the idle instances, the lock being held.
+         */
+        private void drop() {
+            size--;
+            evictionCount.increment();
+            released.signal();
+        }
+
+        /**
+         * Drop an idle instance removed from the idle instances cache, if not reused since.
+         */
+        private void dropIdle(PooledNetwork pooledNetwork) {
+            lock.lock();
+            try {
+                if (!idleNetworkCache.asMap().containsKey(pooledNetwork) && idleNetworks.remove(pooledNetwork)) {
+                    drop();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void evict() {
+            lock.lock();
+            try {
+                generation++;
+                idleNetworks.forEach(idleNetwork -> {
+                    idleNetworkCache.invalidate(idleNetwork);
+                    drop();
+                });
+                idleNetworks.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isEmpty() {
+            lock.lock();
+            try {
+                return size == 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Exclusive use of a network instance, released on close.
+     */
+    public static final class NetworkLease implements AutoCloseable {
+        private final NetworkCache networkCache;
+        private final NetworkPool pool;
+        private final PooledNetwork pooledNetwork;
+        private boolean closed;
+
+        private NetworkLease(NetworkCache networkCache, NetworkPool pool, PooledNetwork pooledNetwork) {
+            this.networkCache = networkCache;
+            this.pool = pool;
+            this.pooledNetwork = pooledNetwork;
+        }
+
+        public Network getNetwork() {
+            return pooledNetwork.network;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                pool.release(pooledNetwork);
+                networkCache.exitPool(pool);
+            }
+        }
+    }
+
+    private final NetworkStoreService networkStoreService;
+
+    private final FilterMetrics filterMetrics;
+
+    private final int instancesPerNetwork;
+
+    private final Duration expireAfterWrite;
+
+    private final boolean retainIdleNetworks;
+
+    private final ConcurrentMap<NetworkKey, NetworkPool> pools = new ConcurrentHashMap<>();
+
+    private final Cache<PooledNetwork, NetworkPool> idleNetworkCache;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public NetworkCache(NetworkStoreService networkStoreService,
+                        FilterMetrics filterMetrics,
+                        @Value("${filter-server.cache.networks.maximum-size:20}") long maximumSize,
+                        @Value("${filter-server.cache.networks.instances-per-network:4}") int instancesPerNetwork,
+                        @Value("${filter-server.cache.networks.expire-after-write:0s}") Duration expireAfterWrite) {
+        this.networkStoreService = networkStoreService;
+        this.filterMetrics = filterMetrics;
+        this.instancesPerNetwork = instancesPerNetwork;
+        this.expireAfterWrite = expireAfterWrite;
+        this.retainIdleNetworks = maximumSize > 0 && expireAfterWrite.isPositive();
+        // idle instances are dropped as soon as they expire or exceed the maximum size, not on the next cache access
+        this.idleNetworkCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<PooledNetwork, NetworkPool>() {
+                @Override
+                public long expireAfterCreate(PooledNetwork pooledNetwork, NetworkPool pool, long currentTime) {
+                    return Math.max(0, expireAfterWrite.toNanos() - (currentTime - pooledNetwork.loadTime));
+                }
+
+                @Override
+                public long expireAfterUpdate(PooledNetwork pooledNetwork, NetworkPool pool, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(PooledNetwork pooledNetwork, NetworkPool pool, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .scheduler(Scheduler.systemScheduler())
+            .removalListener((PooledNetwork pooledNetwork, NetworkPool pool, RemovalCause cause) -> {
+                if (cause.wasEvicted()) {
+                    pool.dropIdle(pooledNetwork);
+                    removeIfUnused(pool);
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Acquire an instance of the network with its working variant set on the given variant,
+     * loading it from the network store if no instance is idle. Blocks while all the instances of the network are leased.
+     * @param variantId the variant of the network, the initial variant if null
+     * @return the lease on the network, to be closed once the network is no longer read, or null if not found
+     */
+    public NetworkLease acquire(UUID networkUuid, String variantId) {
+        return acquire(networkUuid, variantId, PreloadingStrategy.COLLECTION);
+    }
+
+    /**
+     * Same as {@link #acquire(UUID, String)}, for a network loaded with the given preloading strategy.
+     * Networks loaded with different strategies are pooled separately.
+     */
+    public NetworkLease acquire(UUID networkUuid, String variantId, PreloadingStrategy preloadingStrategy) {
+        Objects.requireNonNull(networkUuid);
+        Objects.requireNonNull(preloadingStrategy);
+        NetworkPool pool = enterPool(new NetworkKey(networkUuid, preloadingStrategy));
+        PooledNetwork pooledNetwork;
+        try {
+            pooledNetwork = takeOrLoad(pool, variantId);
+        } catch (RuntimeException e) {
+            exitPool(pool);
+            throw e;
+        }
+        if (pooledNetwork == null) {
+            exitPool(pool);
+            return null;
+        }
+        NetworkLease lease = new NetworkLease(this, pool, pooledNetwork);
+        try {
+            setWorkingVariant(pooledNetwork.network, variantId);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+        return lease;
+    }
+
+    private PooledNetwork takeOrLoad(NetworkPool pool, String variantId) {
+        PooledNetwork pooledNetwork = filterMetrics.timeNetworkWait(pool.key.preloadingStrategy(), pool::take);
+        if (pooledNetwork != null && variantId != null && !pooledNetwork.network.getVariantManager().getVariantIds().contains(variantId)) {
+            // variant created after the instance was loaded: load a new instance in its place,
+            // an unknown variant is reported by the new instance
+            evictionCount.increment();
+            pooledNetwork = null;
+        }
+        if (pooledNetwork != null) {
+            hitCount.increment();
+            return pooledNetwork;
+        }
+        return load(pool);
+    }
+
+    /**
+     * Load a new instance in the place reserved in the pool, the place is freed if the network is not found.
+     * The instance belongs to the generation of the pool when its load starts: it is not reused if evicted meanwhile.
+     */
+    private PooledNetwork load(NetworkPool pool) {
+        missCount.increment();
+        long generation = pool.getGeneration();
+        long loadTime = System.nanoTime();
+        Network network;
+        try {
+            network = filterMetrics.timeNetworkLoad(pool.key.preloadingStrategy(),
+                () -> networkStoreService.getNetwork(pool.key.networkUuid(), pool.key.preloadingStrategy()));
+        } catch (RuntimeException e) {
+            pool.cancel();
+            throw e;
+        }
+        if (network == null) {
+            pool.cancel();
+            return null;
+        }
+        return new PooledNetwork(network, generation, loadTime);
+    }
+
+    private boolean isFresh(PooledNetwork pooledNetwork) {
+        return System.nanoTime() - pooledNetwork.loadTime < expireAfterWrite.toNanos();
+    }
+
+    private NetworkPool enterPool(NetworkKey key) {
+        return pools.compute(key, (k, pool) -> {
+            NetworkPool enteredPool = pool != null ? pool : new NetworkPool(k);
+            enteredPool.users++;
+            return enteredPool;
+        });
+    }
+
+    private void exitPool(NetworkPool pool) {
+        pools.computeIfPresent(pool.key, (k, enteredPool) -> --enteredPool.users == 0 && enteredPool.isEmpty() ? null : enteredPool);
+    }
+
+    private void removeIfUnused(NetworkPool pool) {
+        pools.computeIfPresent(pool.key, (k, unusedPool) -> unusedPool.users == 0 && unusedPool.isEmpty() ? null : unusedPool);
+    }
+
+    /**
+     * Set the working variant of a network instance.
+     * @param variantId the variant of the network, the initial variant if null
+     */
+    private static void setWorkingVariant(Network network, String variantId) {
+        network.getVariantManager().setWorkingVariant(Objects.requireNonNullElse(variantId, VariantManagerConstants.INITIAL_VARIANT_ID));
+    }
+
+    /**
+     * Drop the idle instances of the network, the leased ones being dropped once released.
+     */
+    public void evict(UUID networkUuid) {
+        pools.values().stream()
+            .filter(pool -> pool.key.networkUuid().equals(networkUuid))
+            .forEach(this::evict);
+    }
+
+    public void evictAll() {
+        pools.values().forEach(this::evict);
+    }
+
+    private void evict(NetworkPool pool) {
+        pool.evict();
+        removeIfUnused(pool);
+    }
+
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(idleNetworkCache.estimatedSize(), hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+}
@@ -18,8 +18,13 @@ import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
 import java.time.Instant;
+import java.util.Collection;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class NotificationService {
@@ -30,6 +35,16 @@ public class NotificationService {
     public static final String HEADER_MODIFIED_BY = "modifiedBy";
     public static final String HEADER_MODIFICATION_DATE = "modificationDate";
     public static final String HEADER_ELEMENT_UUID = "elementUuid";
+    public static final String HEADER_FILTER_CHANGE_TYPE = "filterChangeType";
+
+    /**
+     * Kind of filter change notified to all the filter server instances, the payload holds the comma separated filter uuids.
+     */
+    public enum FilterChangeType {
+        UPDATED,
+        DELETED,
+        ALL_DELETED
+    }
 
     @Autowired
     private StreamBridge updatePublisher;
@@ -39,6 +54,30 @@ public class NotificationService {
         updatePublisher.send("publishElementUpdate-out-0", message);
     }
 
+    private void sendFilterChangedMessage(Message<String> message) {
+        MESSAGE_OUTPUT_LOGGER.debug("Sending message : {}", message);
+        updatePublisher.send("publishFilterChanged-out-0", message);
+    }
+
+    /**
+     * Notify all the filter server instances that the given filters have changed, once the current transaction is committed.
+     */
+    public void emitFiltersChanged(Collection<UUID> filterUuids, FilterChangeType changeType) {
+        Message<String> message = MessageBuilder.withPayload(filterUuids.stream().map(UUID::toString).collect(Collectors.joining(",")))
+            .setHeader(HEADER_FILTER_CHANGE_TYPE, changeType.name())
+            .build();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sendFilterChangedMessage(message);
+                }
+            });
+        } else {
+            sendFilterChangedMessage(message);
+        }
+    }
+
     public void emitElementUpdated(UUID elementUuid, String modifiedBy) {
         sendElementUpdateMessage(MessageBuilder.withPayload("")
                 .setHeader(HEADER_ELEMENT_UUID, elementUuid)
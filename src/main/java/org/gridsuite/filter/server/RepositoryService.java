@@ -1,6 +1,5 @@
 package org.gridsuite.filter.server;
 
-import lombok.Getter;
 import lombok.NonNull;
 import org.apache.commons.collections4.ListUtils;
 import org.gridsuite.filter.AbstractFilter;
@@ -12,13 +11,20 @@ import org.gridsuite.filter.server.repositories.proxies.AbstractFilterRepository
 import org.gridsuite.filter.server.repositories.proxies.expertfiler.ExpertFilterRepositoryProxy;
 import org.gridsuite.filter.server.repositories.proxies.identifierlistfilter.IdentifierListFilterRepositoryProxy;
 import org.gridsuite.filter.utils.FilterType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -29,16 +35,39 @@ import java.util.stream.Stream;
 public class RepositoryService {
     private final IdentifierListFilterRepositoryProxy identifierListFilterProxy;
     private final ExpertFilterRepositoryProxy expertFilterProxy;
-    @Getter private final FilterLoader filterLoader;
+    private final Map<String, AbstractFilterRepositoryProxy<?, ?>> filterRepositories;
+    private final FilterCache filterCache;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final FilterMetrics filterMetrics;
+    private final boolean databaseDuplicationSupported;
 
     public RepositoryService(final IdentifierListFilterRepository identifierListFilterRepository,
-                             final ExpertFilterRepository expertFilterRepository) {
+                             final ExpertFilterRepository expertFilterRepository,
+                             final FilterCache filterCache,
+                             final PlatformTransactionManager transactionManager,
+                             final FilterMetrics filterMetrics,
+                             @Value("${powsybl-ws.database.vendor:postgresql}") final String databaseVendor,
+                             @Value("${filter-server.expert-filters.serialized-rules:false}") final boolean serializedExpertRules) {
         this.identifierListFilterProxy = new IdentifierListFilterRepositoryProxy(identifierListFilterRepository);
-        this.expertFilterProxy = new ExpertFilterRepositoryProxy(expertFilterRepository);
-        this.filterLoader = new FilterLoaderImpl(Map.of(
+        this.expertFilterProxy = new ExpertFilterRepositoryProxy(expertFilterRepository, serializedExpertRules);
+        this.filterRepositories = Map.of(
             FilterType.IDENTIFIER_LIST.name(), this.identifierListFilterProxy,
             FilterType.EXPERT.name(), this.expertFilterProxy
-        ));
+        );
+        this.filterCache = filterCache;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.filterMetrics = filterMetrics;
+        this.databaseDuplicationSupported = databaseVendor.startsWith("postgresql");
+    }
+
+    /**
+     * @return a new request scoped filter loader, batching and memoizing the filters it loads.
+     * The filters it returns are shared through the {@link FilterCache} and must not be modified.
+     * @see FilterLoaderImpl
+     */
+    public FilterLoader getFilterLoader() {
+        return new FilterLoaderImpl(filterRepositories, filterCache, readOnlyTransactionTemplate, filterMetrics);
     }
 
     public AbstractFilterRepositoryProxy<?, ?> getRepositoryFromType(@NonNull final FilterType type) {
@@ -63,6 +92,24 @@ public class RepositoryService {
         this.expertFilterProxy.deleteAllByIds(ids);
     }
 
+    /**
+     * Update filters by new versions: the stored filters are deleted then the new versions are inserted in the repository
+     * of their type, with batched statements, whether their type changes or not. Merging the filters keeping their type
+     * would select each stored filter on its own before updating it.
+     * @return the updated filters
+     * @see AbstractFilterRepositoryProxy#insertAll(List)
+     */
+    @Transactional
+    public List<AbstractFilter> updateFilters(@NonNull final List<AbstractFilter> filters) {
+        deleteFilters(filters.stream().map(AbstractFilter::getId).toList());
+        // the deletes must reach the database before the inserts reusing the same ids
+        filterRepositories.values().forEach(repository -> repository.getRepository().flush());
+        List<AbstractFilter> updatedFilters = new ArrayList<>(filters.size());
+        filters.stream().collect(Collectors.groupingBy(AbstractFilter::getType))
+            .forEach((type, typeFilters) -> updatedFilters.addAll(getRepositoryFromType(type).insertAll(typeFilters)));
+        return updatedFilters;
+    }
+
     /** @see AbstractFilterRepositoryProxy#deleteAll() */
     public void deleteAll() {
         this.identifierListFilterProxy.deleteAll();
@@ -75,6 +122,28 @@ public class RepositoryService {
         return Stream.concat(this.identifierListFilterProxy.getFiltersAttributes(), this.expertFilterProxy.getFiltersAttributes());
     }
 
+    /**
+     * Get a page of the filters attributes of all repositories, ordered by id.
+     * Ids are compared on their string form, which matches the unsigned byte order used by the database.
+     * @see AbstractFilterRepositoryProxy#getFiltersAttributesAfter(UUID, int)
+     */
+    @Transactional(readOnly = true)
+    public List<FilterAttributes> getFiltersAttributesAfter(final UUID after, final int size) {
+        return Stream.concat(this.identifierListFilterProxy.getFiltersAttributesAfter(after, size).stream(),
+                this.expertFilterProxy.getFiltersAttributesAfter(after, size).stream())
+            .sorted(Comparator.comparing(filterAttributes -> filterAttributes.getId().toString()))
+            .limit(size)
+            .toList();
+    }
+
+    /**
+     * The returned stream holds database cursors: it must be closed, and consumed inside a transaction.
+     * @see AbstractFilterRepositoryProxy#streamFiltersAttributes()
+     */
+    public Stream<FilterAttributes> streamFiltersAttributes() {
+        return Stream.concat(this.identifierListFilterProxy.streamFiltersAttributes(), this.expertFilterProxy.streamFiltersAttributes());
+    }
+
     /** @see AbstractFilterRepositoryProxy#getFiltersAttributes(List) */
     @Transactional(readOnly = true)
     public Stream<FilterAttributes> getFiltersAttributes(@NonNull final List<UUID> ids) {
@@ -95,4 +164,32 @@ public class RepositoryService {
     public Optional<AbstractFilter> getFilter(@NonNull final UUID id) {
         return this.identifierListFilterProxy.getFilter(id).or(() -> this.expertFilterProxy.getFilter(id));
     }
+
+    /**
+     * @return true if the filters can be copied inside the database, see {@link #duplicateFiltersInDatabase(List)}
+     */
+    public boolean isDatabaseDuplicationSupported() {
+        return databaseDuplicationSupported;
+    }
+
+    /**
+     * Copy the filters inside the database, without loading them, with one statement per repository.
+     * @return Map of uuids of copied filters and uuids of new filters, the filters not found are missing
+     * @see AbstractFilterRepositoryProxy#duplicateAllInDatabase(List, List)
+     */
+    @Transactional
+    public Map<UUID, UUID> duplicateFiltersInDatabase(@NonNull final List<UUID> ids) {
+        Map<UUID, UUID> uuidsMap = new HashMap<>();
+        filterRepositories.values().forEach(repository -> {
+            List<UUID> sourceIds = repository.getFiltersAttributes(ids).map(FilterAttributes::getId).toList();
+            if (!sourceIds.isEmpty()) {
+                List<UUID> targetIds = sourceIds.stream().map(sourceId -> UUID.randomUUID()).toList();
+                repository.duplicateAllInDatabase(sourceIds, targetIds);
+                for (int i = 0; i < sourceIds.size(); i++) {
+                    uuidsMap.put(sourceIds.get(i), targetIds.get(i));
+                }
+            }
+        });
+        return uuidsMap;
+    }
 }
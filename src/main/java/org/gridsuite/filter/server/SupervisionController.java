@@ -6,18 +6,29 @@
  */
 package org.gridsuite.filter.server;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.gridsuite.filter.IFilterAttributes;
+import org.gridsuite.filter.server.dto.CacheStatistics;
+import org.gridsuite.filter.server.dto.FilterAttributesPage;
+import org.gridsuite.filter.server.utils.NdjsonUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * @author Radouane KHOUADRI <radouane.khouadri at rte-france.com>
@@ -27,10 +38,14 @@ import java.util.List;
 @Tag(name = "Filter server - Supervision")
 public class SupervisionController {
 
+    private static final int MAX_PAGE_SIZE = 10000;
+
     private final FilterService service;
+    private final ObjectMapper objectMapper;
 
-    public SupervisionController(FilterService service) {
+    public SupervisionController(FilterService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping(value = "/filters", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -39,4 +54,54 @@ public class SupervisionController {
     public ResponseEntity<List<IFilterAttributes>> getFilters() {
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(service.getFilters());
     }
+
+    @GetMapping(value = "/filters/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of the filters ordered by id, starting after the given cursor")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "A page of filters and the cursor of the next page"),
+        @ApiResponse(responseCode = "400", description = "Invalid page size")})
+    public ResponseEntity<FilterAttributesPage> getFiltersPage(@RequestParam(value = "after", required = false) UUID after,
+                                                               @RequestParam(value = "size", defaultValue = "1000") int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(service.getFilters(after, size));
+    }
+
+    @GetMapping(value = "/filters/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all filters, one JSON document per line")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "All filters")})
+    public ResponseEntity<StreamingResponseBody> streamFilters() {
+        StreamingResponseBody body = outputStream -> service.streamFilters(NdjsonUtils.writer(objectMapper, outputStream));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(value = "/filters/cache/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the statistics of the filters cache")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The filters cache size, hit, miss and eviction counts")})
+    public ResponseEntity<CacheStatistics> getFilterCacheStatistics() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(service.getFilterCacheStatistics());
+    }
+
+    @GetMapping(value = "/networks/cache/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the statistics of the networks cache")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The networks cache size, hit, miss and eviction counts")})
+    public ResponseEntity<CacheStatistics> getNetworkCacheStatistics() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(service.getNetworkCacheStatistics());
+    }
+
+    @DeleteMapping(value = "/networks/{networkUuid}/cache")
+    @Operation(summary = "Evict all the variants of a network from the networks cache")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The network has been evicted")})
+    public ResponseEntity<Void> evictNetwork(@PathVariable("networkUuid") UUID networkUuid) {
+        service.evictNetwork(networkUuid);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping(value = "/networks/cache")
+    @Operation(summary = "Evict all the networks from the networks cache")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The networks have been evicted")})
+    public ResponseEntity<Void> evictAllNetworks() {
+        service.evictAllNetworks();
+        return ResponseEntity.ok().build();
+    }
 }
@@ -0,0 +1,13 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.dto;
+
+/**
+ * Counters of an in-memory cache, used to size it.
+ */
+public record CacheStatistics(long size, long hitCount, long missCount, long evictionCount) {
+}
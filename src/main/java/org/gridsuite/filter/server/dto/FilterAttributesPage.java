@@ -0,0 +1,18 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.dto;
+
+import org.gridsuite.filter.identifierlistfilter.FilterAttributes;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A page of filters attributes, {@code nextCursor} is {@code null} on the last page.
+ */
+public record FilterAttributesPage(List<FilterAttributes> filters, UUID nextCursor) {
+}
@@ -8,11 +8,13 @@ package org.gridsuite.filter.server.entities;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.util.Date;
 import java.util.UUID;
@@ -28,7 +30,7 @@ import static jakarta.persistence.TemporalType.TIMESTAMP;
 @SuperBuilder
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
-public abstract class AbstractFilterEntity {
+public abstract class AbstractFilterEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id")
@@ -38,4 +40,27 @@ public abstract class AbstractFilterEntity {
     @Temporal(TIMESTAMP)
     @Column(name = "modificationDate")
     private Date modificationDate;
+
+    /**
+     * Set by {@link #markNew()} when the id is known to be unused, so that saving the entity persists it
+     * instead of merging it: no select is done first, and the inserts of the entity and its children can be batched.
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = false;
+
+    public void markNew() {
+        this.newEntity = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
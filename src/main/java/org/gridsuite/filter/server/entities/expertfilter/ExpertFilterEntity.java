@@ -37,4 +37,11 @@ public class ExpertFilterEntity extends AbstractFilterEntity {
                     name = "expertRule_rules_fk"
             ))
     private ExpertRuleEntity rules;
+
+    /**
+     * The whole rules tree serialized in JSON, written along the rule rows,
+     * or instead of them when the serialized rules storage is enabled.
+     */
+    @Column(name = "rules_json")
+    private String rulesJson;
 }
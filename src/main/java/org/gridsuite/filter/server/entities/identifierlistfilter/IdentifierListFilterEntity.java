@@ -33,10 +33,10 @@ public class IdentifierListFilterEntity extends AbstractFilterEntity {
     @Column(name = "equipmentType")
     private EquipmentType equipmentType;
 
-    @OneToMany(cascade = CascadeType.ALL)
-    @JoinTable(
-        indexes = @Index(name = "identifier_list_filter_entity_id_idx", columnList = "identifier_list_filter_entity_id")
-    )
-    @OrderColumn(name = "equipmentId_order")
+    /**
+     * All the equipments of the filter, in order, stored in a single compressed column.
+     */
+    @Convert(converter = IdentifierListFilterEquipmentsConverter.class)
+    @Column(name = "equipments")
     private List<IdentifierListFilterEquipmentEntity> filterEquipmentEntityList;
 }
@@ -7,17 +7,15 @@
 
 package org.gridsuite.filter.server.entities.identifierlistfilter;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
-import java.util.UUID;
 
 /**
+ * An equipment of an identifier list filter, stored with the other equipments of the filter
+ * in the compact form of {@link IdentifierListFilterEquipmentsConverter}.
+ *
  * @author Seddik Yengui <seddik.yengui at rte-france.com>
  */
 
@@ -25,16 +23,8 @@ import java.util.UUID;
 @NoArgsConstructor
 @SuperBuilder
 @AllArgsConstructor
-@Entity
-@Table(name = "identifier_list_filter_equipment")
 public class IdentifierListFilterEquipmentEntity {
-    @Id
-    @Column(name = "id")
-    private UUID id;
-
-    @Column(name = "equipmentId")
     private String equipmentId;
 
-    @Column(name = "distributionKey")
     private Double distributionKey;
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.filter.server.entities.identifierlistfilter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Store the equipments of an identifier list filter in a single deflate compressed binary column:
+ * a format version, the number of equipments, then for each equipment its id and its optional distribution key.
+ */
+@Converter
+public class IdentifierListFilterEquipmentsConverter implements AttributeConverter<List<IdentifierListFilterEquipmentEntity>, byte[]> {
+    private static final byte FORMAT_VERSION = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<IdentifierListFilterEquipmentEntity> equipments) {
+        if (equipments == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            output.writeByte(FORMAT_VERSION);
+            output.writeInt(equipments.size());
+            for (IdentifierListFilterEquipmentEntity equipment : equipments) {
+                output.writeUTF(equipment.getEquipmentId());
+                output.writeBoolean(equipment.getDistributionKey() != null);
+                if (equipment.getDistributionKey() != null) {
+                    output.writeDouble(equipment.getDistributionKey());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public List<IdentifierListFilterEquipmentEntity> convertToEntityAttribute(byte[] data) {
+        if (data == null) {
+            return new ArrayList<>();
+        }
+        try (DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            byte version = input.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported identifier list equipments format version: " + version);
+            }
+            int size = input.readInt();
+            List<IdentifierListFilterEquipmentEntity> equipments = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String equipmentId = input.readUTF();
+                Double distributionKey = input.readBoolean() ? input.readDouble() : null;
+                equipments.add(new IdentifierListFilterEquipmentEntity(equipmentId, distributionKey));
+            }
+            return equipments;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
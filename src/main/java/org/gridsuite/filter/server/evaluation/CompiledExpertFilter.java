@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.evaluation;
+
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import org.gridsuite.filter.FilterLoader;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.expertfilter.expertrule.AbstractExpertRule;
+import org.gridsuite.filter.expertfilter.expertrule.FilterUuidExpertRule;
+import org.gridsuite.filter.expertfilter.expertrule.StringExpertRule;
+import org.gridsuite.filter.identifierlistfilter.IdentifiableAttributes;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.DataType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Expert filter compiled for repeated evaluation: nested combinators of the same kind are flattened,
+ * and the rules of each combinator are ordered by increasing cost so that the cheap checks short-circuit
+ * the expensive ones (properties lookups, sub-filters evaluations).
+ * Only the id membership rules are compiled into dedicated checks: against a set of ids, or against the hashed index
+ * of identifier lists. The other leaf rules are evaluated by the filter library, whose field accessors define their semantics.
+ * <p>
+ * Rules are expected to be side effect free: reordering them only changes the evaluation cost, not the result.
+ */
+public final class CompiledExpertFilter {
+
+    private static final int SIMPLE_RULE_COST = 1;
+    private static final int NUMBER_RULE_COST = 2;
+    private static final int STRING_RULE_COST = 3;
+    private static final int PROPERTIES_RULE_COST = 10;
+    private static final int IDENTIFIER_LIST_RULE_COST = 2;
+    private static final int FILTER_UUID_RULE_COST = 100;
+
+    private final EquipmentType equipmentType;
+    private final CompiledRule rule;
+    private final Function<IdentifierListFilter, IdentifierListIndex> identifierListIndexes;
+
+    private CompiledExpertFilter(EquipmentType equipmentType, CompiledRule rule, Function<IdentifierListFilter, IdentifierListIndex> identifierListIndexes) {
+        this.equipmentType = equipmentType;
+        this.rule = rule;
+        this.identifierListIndexes = identifierListIndexes;
+    }
+
+    public static CompiledExpertFilter compile(ExpertFilter filter) {
+        return compile(filter, IdentifierListIndex::of);
+    }
+
+    /**
+     * @param identifierListIndexes provides the index of the identifier lists referenced by the rules, typically from a cache
+     */
+    public static CompiledExpertFilter compile(ExpertFilter filter, Function<IdentifierListFilter, IdentifierListIndex> identifierListIndexes) {
+        return new CompiledExpertFilter(filter.getEquipmentType(), compile(filter.getRules()), identifierListIndexes);
+    }
+
+    /**
+     * @return whether the equipments of the given type are streamed here, other types must be evaluated
+     * by {@link org.gridsuite.filter.utils.FilterServiceUtils}
+     */
+    public static boolean supports(EquipmentType equipmentType) {
+        return switch (equipmentType) {
+            case GENERATOR, LOAD, LINE, TWO_WINDINGS_TRANSFORMER, THREE_WINDINGS_TRANSFORMER, SHUNT_COMPENSATOR,
+                 STATIC_VAR_COMPENSATOR, BATTERY, HVDC_LINE, BUSBAR_SECTION, VOLTAGE_LEVEL, SUBSTATION -> true;
+            default -> false;
+        };
+    }
+
+    public EquipmentType getEquipmentType() {
+        return equipmentType;
+    }
+
+    public List<IdentifiableAttributes> evaluate(Network network, FilterLoader filterLoader) {
+        return evaluate(List.of(this), network, filterLoader, equipmentCount -> { }).getFirst();
+    }
+
+    /**
+     * Pass each matched identifiable to the consumer, without building any intermediate result.
+     * @return the number of evaluated equipments
+     */
+    public long forEachMatch(Network network, FilterLoader filterLoader, Consumer<Identifiable<?>> consumer) {
+        EvaluationContext context = new EvaluationContext(equipmentType, filterLoader, identifierListIndexes);
+        long evaluatedEquipments = 0;
+        Iterator<? extends Identifiable<?>> identifiables = getIdentifiables(network, equipmentType).iterator();
+        while (identifiables.hasNext()) {
+            Identifiable<?> identifiable = identifiables.next();
+            evaluatedEquipments++;
+            if (rule.test(identifiable, context)) {
+                consumer.accept(identifiable);
+            }
+        }
+        return evaluatedEquipments;
+    }
+
+    /**
+     * Evaluate several filters on the same equipment type in a single pass over the equipments of this type.
+     * @param evaluatedEquipmentsCounter receives the number of evaluated equipments
+     * @return the matched identifiables of each filter, in the order of the given filters
+     */
+    public static List<List<IdentifiableAttributes>> evaluate(List<CompiledExpertFilter> filters, Network network, FilterLoader filterLoader,
+                                                              LongConsumer evaluatedEquipmentsCounter) {
+        List<List<IdentifiableAttributes>> results = new ArrayList<>(filters.size());
+        if (filters.isEmpty()) {
+            return results;
+        }
+        EquipmentType equipmentType = filters.getFirst().equipmentType;
+        if (filters.stream().anyMatch(filter -> filter.equipmentType != equipmentType)) {
+            throw new IllegalArgumentException("Filters evaluated in a single pass must have the same equipment type");
+        }
+        CompiledRule[] rules = new CompiledRule[filters.size()];
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = filters.get(i).rule;
+            results.add(new ArrayList<>());
+        }
+        EvaluationContext context = new EvaluationContext(equipmentType, filterLoader, filters.getFirst().identifierListIndexes);
+        long evaluatedEquipments = 0;
+        Iterator<? extends Identifiable<?>> identifiables = getIdentifiables(network, equipmentType).iterator();
+        while (identifiables.hasNext()) {
+            Identifiable<?> identifiable = identifiables.next();
+            evaluatedEquipments++;
+            IdentifiableAttributes attributes = null;
+            for (int i = 0; i < rules.length; i++) {
+                if (rules[i].test(identifiable, context)) {
+                    if (attributes == null) {
+                        attributes = new IdentifiableAttributes(identifiable.getId(), identifiable.getType(), null);
+                    }
+                    results.get(i).add(attributes);
+                }
+            }
+        }
+        evaluatedEquipmentsCounter.accept(evaluatedEquipments);
+        return results;
+    }
+
+    private static Stream<? extends Identifiable<?>> getIdentifiables(Network network, EquipmentType equipmentType) {
+        return switch (equipmentType) {
+            case GENERATOR -> network.getGeneratorStream();
+            case LOAD -> network.getLoadStream();
+            case LINE -> network.getLineStream();
+            case TWO_WINDINGS_TRANSFORMER -> network.getTwoWindingsTransformerStream();
+            case THREE_WINDINGS_TRANSFORMER -> network.getThreeWindingsTransformerStream();
+            case SHUNT_COMPENSATOR -> network.getShuntCompensatorStream();
+            case STATIC_VAR_COMPENSATOR -> network.getStaticVarCompensatorStream();
+            case BATTERY -> network.getBatteryStream();
+            case HVDC_LINE -> network.getHvdcLineStream();
+            case BUSBAR_SECTION -> network.getBusbarSectionStream();
+            case VOLTAGE_LEVEL -> network.getVoltageLevelStream();
+            case SUBSTATION -> network.getSubstationStream();
+            default -> throw new IllegalStateException("Unsupported equipment type for compiled evaluation: " + equipmentType);
+        };
+    }
+
+    private static CompiledRule compile(AbstractExpertRule rule) {
+        if (rule.getDataType() != DataType.COMBINATOR
+            || (rule.getCombinator() != CombinatorType.AND && rule.getCombinator() != CombinatorType.OR)) {
+            return compileLeaf(rule);
+        }
+        List<CompiledRule> children = new ArrayList<>();
+        if (rule.getRules() != null) {
+            rule.getRules().forEach(child -> addFlattened(children, compile(child), rule.getCombinator()));
+        }
+        if (children.size() == 1) {
+            return children.getFirst();
+        }
+        children.sort(Comparator.comparingInt(CompiledRule::cost));
+        CompiledRule[] rules = children.toArray(CompiledRule[]::new);
+        int cost = children.stream().mapToInt(CompiledRule::cost).sum();
+        return rule.getCombinator() == CombinatorType.AND ? new CompiledRule.All(rules, cost) : new CompiledRule.Any(rules, cost);
+    }
+
+    private static CompiledRule compileLeaf(AbstractExpertRule rule) {
+        if (rule instanceof StringExpertRule stringRule && stringRule.getField() == FieldType.ID
+            && (stringRule.getOperator() == OperatorType.IN || stringRule.getOperator() == OperatorType.NOT_IN)
+            && stringRule.getValues() != null) {
+            return new CompiledRule.IdIn(Set.copyOf(stringRule.getValues()), stringRule.getOperator() == OperatorType.NOT_IN, SIMPLE_RULE_COST);
+        }
+        if (rule instanceof FilterUuidExpertRule filterUuidRule && filterUuidRule.getField() == FieldType.ID
+            && (filterUuidRule.getOperator() == OperatorType.IS_PART_OF || filterUuidRule.getOperator() == OperatorType.IS_NOT_PART_OF)
+            && filterUuidRule.getValues() != null && !filterUuidRule.getValues().isEmpty()) {
+            try {
+                UUID[] filterIds = filterUuidRule.getValues().stream().map(UUID::fromString).toArray(UUID[]::new);
+                return new CompiledRule.IdentifierListMembership(rule, filterIds,
+                    filterUuidRule.getOperator() == OperatorType.IS_NOT_PART_OF, IDENTIFIER_LIST_RULE_COST);
+            } catch (IllegalArgumentException e) {
+                // not filter ids: left to the rule evaluation
+            }
+        }
+        return new CompiledRule.Leaf(rule, getLeafCost(rule.getDataType()));
+    }
+
+    private static void addFlattened(List<CompiledRule> rules, CompiledRule rule, CombinatorType combinator) {
+        if (combinator == CombinatorType.AND && rule instanceof CompiledRule.All all) {
+            rules.addAll(List.of(all.rules()));
+        } else if (combinator == CombinatorType.OR && rule instanceof CompiledRule.Any any) {
+            rules.addAll(List.of(any.rules()));
+        } else {
+            rules.add(rule);
+        }
+    }
+
+    private static int getLeafCost(DataType dataType) {
+        return switch (dataType) {
+            case NUMBER -> NUMBER_RULE_COST;
+            case STRING -> STRING_RULE_COST;
+            case PROPERTIES -> PROPERTIES_RULE_COST;
+            case FILTER_UUID -> FILTER_UUID_RULE_COST;
+            default -> SIMPLE_RULE_COST;
+        };
+    }
+}
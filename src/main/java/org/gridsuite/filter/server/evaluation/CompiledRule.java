@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.evaluation;
+
+import com.powsybl.iidm.network.Identifiable;
+import org.gridsuite.filter.expertfilter.expertrule.AbstractExpertRule;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Node of a compiled expert rule tree.
+ */
+sealed interface CompiledRule {
+
+    boolean test(Identifiable<?> identifiable, EvaluationContext context);
+
+    /**
+     * Relative evaluation cost, used to evaluate the cheapest rules first.
+     */
+    int cost();
+
+    /**
+     * A leaf rule evaluated by the rule itself, through the field accessors of the filter library.
+     */
+    record Leaf(AbstractExpertRule rule, int cost) implements CompiledRule {
+        @Override
+        public boolean test(Identifiable<?> identifiable, EvaluationContext context) {
+            return rule.evaluateRule(identifiable, context.getFilterLoader(), context.getCachedUuidFilters());
+        }
+    }
+
+    /**
+     * A membership rule on the id of the equipment against a set of ids, checked without going through the field accessors.
+     */
+    record IdIn(Set<String> ids, boolean negated, int cost) implements CompiledRule {
+        @Override
+        public boolean test(Identifiable<?> identifiable, EvaluationContext context) {
+            return ids.contains(identifiable.getId()) != negated;
+        }
+    }
+
+    /**
+     * A membership rule on the id of the equipment against identifier lists: each list is checked in its hashed index.
+     * Falls back to the rule evaluation when a referenced filter is not an identifier list of the evaluated equipment type.
+     */
+    record IdentifierListMembership(AbstractExpertRule rule, UUID[] filterIds, boolean negated, int cost) implements CompiledRule {
+        @Override
+        public boolean test(Identifiable<?> identifiable, EvaluationContext context) {
+            for (UUID filterId : filterIds) {
+                Optional<IdentifierListIndex> index = context.getIdentifierListIndex(filterId);
+                if (index.isEmpty()) {
+                    return rule.evaluateRule(identifiable, context.getFilterLoader(), context.getCachedUuidFilters());
+                }
+                if (index.get().contains(identifiable.getId())) {
+                    return !negated;
+                }
+            }
+            return negated;
+        }
+    }
+
+    record All(CompiledRule[] rules, int cost) implements CompiledRule {
+        @Override
+        public boolean test(Identifiable<?> identifiable, EvaluationContext context) {
+            for (CompiledRule rule : rules) {
+                if (!rule.test(identifiable, context)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    record Any(CompiledRule[] rules, int cost) implements CompiledRule {
+        @Override
+        public boolean test(Identifiable<?> identifiable, EvaluationContext context) {
+            for (CompiledRule rule : rules) {
+                if (rule.test(identifiable, context)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.evaluation;
+
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.FilterLoader;
+import org.gridsuite.filter.identifierlistfilter.FilterEquipments;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.utils.EquipmentType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * State shared by the rules of a compiled filter during one pass over the equipments:
+ * the sub-filters are loaded and evaluated once per pass, not once per equipment.
+ */
+final class EvaluationContext {
+
+    private final EquipmentType equipmentType;
+    private final FilterLoader filterLoader;
+    private final Function<IdentifierListFilter, IdentifierListIndex> indexes;
+    private final Map<UUID, FilterEquipments> cachedUuidFilters = new HashMap<>();
+    private final Map<UUID, Optional<IdentifierListIndex>> identifierListIndexes = new HashMap<>();
+
+    EvaluationContext(EquipmentType equipmentType, FilterLoader filterLoader, Function<IdentifierListFilter, IdentifierListIndex> indexes) {
+        this.equipmentType = equipmentType;
+        this.filterLoader = filterLoader;
+        this.indexes = indexes;
+    }
+
+    FilterLoader getFilterLoader() {
+        return filterLoader;
+    }
+
+    Map<UUID, FilterEquipments> getCachedUuidFilters() {
+        return cachedUuidFilters;
+    }
+
+    /**
+     * @return the index of the given filter, empty if it is not found or is not an identifier list
+     * of the evaluated equipment type
+     */
+    Optional<IdentifierListIndex> getIdentifierListIndex(UUID filterId) {
+        return identifierListIndexes.computeIfAbsent(filterId, id -> {
+            List<AbstractFilter> filters = filterLoader.getFilters(List.of(id));
+            if (filters.size() == 1 && filters.getFirst() instanceof IdentifierListFilter identifierListFilter
+                && identifierListFilter.getEquipmentType() == equipmentType) {
+                return Optional.of(indexes.apply(identifierListFilter));
+            }
+            return Optional.empty();
+        });
+    }
+}
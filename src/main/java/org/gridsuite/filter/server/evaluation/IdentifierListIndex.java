@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.evaluation;
+
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilterEquipmentAttributes;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable hashed index of the equipments listed by an identifier list filter: membership checks are O(1).
+ */
+public final class IdentifierListIndex {
+
+    private final Set<String> equipmentIds;
+
+    private IdentifierListIndex(Set<String> equipmentIds) {
+        this.equipmentIds = equipmentIds;
+    }
+
+    public static IdentifierListIndex of(IdentifierListFilter filter) {
+        List<IdentifierListFilterEquipmentAttributes> equipments = filter.getFilterEquipmentsAttributes();
+        Set<String> equipmentIds = HashSet.newHashSet(equipments.size());
+        equipments.forEach(equipment -> equipmentIds.add(equipment.getEquipmentID()));
+        return new IdentifierListIndex(equipmentIds);
+    }
+
+    public boolean contains(String equipmentId) {
+        return equipmentIds.contains(equipmentId);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.migrations;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.gridsuite.filter.expertfilter.expertrule.AbstractExpertRule;
+import org.gridsuite.filter.server.repositories.expertfilter.ExpertRuleInfos;
+import org.gridsuite.filter.server.repositories.proxies.expertfiler.ExpertFilterRepositoryProxy;
+import org.gridsuite.filter.server.repositories.proxies.expertfiler.ExpertRulesJson;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.DataType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Backfill the {@code rules_json} column of the expert filters with their serialized rules tree.
+ * The filter ids are streamed, and the rules trees of each batch of filters are read and written with prepared statements.
+ */
+public class MigrateExpertRulesToJson implements CustomTaskChange {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MigrateExpertRulesToJson.class);
+
+    private static final int FILTERS_BATCH_SIZE = 500;
+
+    private int migratedFiltersCount;
+
+    @Getter
+    @AllArgsConstructor
+    static class RuleRow implements ExpertRuleInfos {
+        private final UUID filterId;
+        private final UUID id;
+        private final UUID parentRuleId;
+        private final CombinatorType combinator;
+        private final FieldType field;
+        private final OperatorType operator;
+        private final DataType dataType;
+        private final String value;
+        private final String propertyName;
+    }
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try (Statement filtersStatement = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement("update expert_filter set rules_json = ? where id = ?")) {
+            filtersStatement.setFetchSize(FILTERS_BATCH_SIZE);
+            try (ResultSet filters = filtersStatement.executeQuery("select id from expert_filter where rules_id is not null")) {
+                List<UUID> batchIds = new ArrayList<>(FILTERS_BATCH_SIZE);
+                while (filters.next()) {
+                    batchIds.add(UUID.fromString(filters.getString("id")));
+                    if (batchIds.size() == FILTERS_BATCH_SIZE) {
+                        migrateBatch(connection, update, batchIds);
+                        batchIds.clear();
+                    }
+                }
+                if (!batchIds.isEmpty()) {
+                    migrateBatch(connection, update, batchIds);
+                }
+            }
+        } catch (SQLException | DatabaseException e) {
+            throw new CustomChangeException(e);
+        }
+        LOGGER.info("{} expert filters rules trees serialized", migratedFiltersCount);
+    }
+
+    private void migrateBatch(JdbcConnection connection, PreparedStatement update, List<UUID> filterIds) throws SQLException, DatabaseException {
+        Map<UUID, AbstractExpertRule> rulesByFilter = ExpertFilterRepositoryProxy.assembleRules(
+            readRules(connection, filterIds), readPropertyValues(connection, filterIds));
+        for (Map.Entry<UUID, AbstractExpertRule> rules : rulesByFilter.entrySet()) {
+            update.setString(1, ExpertRulesJson.write(rules.getValue()));
+            update.setObject(2, rules.getKey());
+            update.addBatch();
+        }
+        update.executeBatch();
+        migratedFiltersCount += rulesByFilter.size();
+    }
+
+    /**
+     * @return the placeholders of an in clause on the given number of values
+     */
+    private static String inClause(int valuesCount) {
+        return String.join(",", Collections.nCopies(valuesCount, "?"));
+    }
+
+    private static void setIds(PreparedStatement statement, List<UUID> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            statement.setObject(i + 1, ids.get(i));
+        }
+    }
+
+    private static List<RuleRow> readRules(JdbcConnection connection, List<UUID> filterIds) throws SQLException, DatabaseException {
+        String query = "WITH RECURSIVE tree (filter_id, id) AS ("
+            + "SELECT f.id, f.rules_id FROM expert_filter f WHERE f.id IN (" + inClause(filterIds.size()) + ")"
+            + " UNION ALL SELECT t.filter_id, r.id FROM expert_rule r JOIN tree t ON r.parent_rule_id = t.id) "
+            + "SELECT t.filter_id, r.id, r.parent_rule_id, r.combinator, r.field, r.operator, r.data_type, v.value_, p.property_name "
+            + "FROM tree t JOIN expert_rule r ON r.id = t.id "
+            + "LEFT JOIN expert_rule_value v ON v.id = r.id LEFT JOIN expert_rule_properties p ON p.id = r.id";
+        List<RuleRow> rules = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            setIds(statement, filterIds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rules.add(new RuleRow(
+                        toUuid(resultSet.getString("filter_id")),
+                        toUuid(resultSet.getString("id")),
+                        toUuid(resultSet.getString("parent_rule_id")),
+                        toEnum(CombinatorType.class, resultSet.getString("combinator")),
+                        toEnum(FieldType.class, resultSet.getString("field")),
+                        toEnum(OperatorType.class, resultSet.getString("operator")),
+                        toEnum(DataType.class, resultSet.getString("data_type")),
+                        resultSet.getString("value_"),
+                        resultSet.getString("property_name")));
+                }
+            }
+        }
+        return rules;
+    }
+
+    private static Map<UUID, List<String>> readPropertyValues(JdbcConnection connection, List<UUID> filterIds) throws SQLException, DatabaseException {
+        String query = "WITH RECURSIVE tree (id) AS ("
+            + "SELECT f.rules_id FROM expert_filter f WHERE f.id IN (" + inClause(filterIds.size()) + ")"
+            + " UNION ALL SELECT r.id FROM expert_rule r JOIN tree t ON r.parent_rule_id = t.id) "
+            + "SELECT v.expert_rule_properties_entity_id, v.property_values FROM expert_rule_property_value v "
+            + "JOIN tree t ON t.id = v.expert_rule_properties_entity_id "
+            + "ORDER BY v.expert_rule_properties_entity_id, v.pos";
+        Map<UUID, List<String>> propertyValuesByRule = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            setIds(statement, filterIds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    propertyValuesByRule.computeIfAbsent(toUuid(resultSet.getString("expert_rule_properties_entity_id")), id -> new ArrayList<>())
+                        .add(resultSet.getString("property_values"));
+                }
+            }
+        }
+        return propertyValuesByRule;
+    }
+
+    private static UUID toUuid(String value) {
+        return value == null ? null : UUID.fromString(value);
+    }
+
+    private static <E extends Enum<E>> E toEnum(Class<E> enumClass, String value) {
+        return value == null ? null : Enum.valueOf(enumClass, value);
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return migratedFiltersCount + " expert filters rules trees were successfully serialized";
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+        LOGGER.info("Set up serialization of the expert filters rules trees");
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        LOGGER.info("Set file opener for the serialization of the expert filters rules trees");
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.migrations;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEquipmentEntity;
+import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEquipmentsConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Write the equipments rows of each identifier list filter into its compact {@code equipments} column.
+ * The column is binary, so it is written with prepared statements instead of generated sql statements.
+ * The equipments rows are streamed, the driver only fetching them with a cursor outside of autocommit mode.
+ */
+public class MigrateIdentifierListEquipmentsToCompactStorage implements CustomTaskChange {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MigrateIdentifierListEquipmentsToCompactStorage.class);
+
+    private static final int UPDATE_BATCH_SIZE = 100;
+
+    private static final int EQUIPMENTS_FETCH_SIZE = 1000;
+
+    private final IdentifierListFilterEquipmentsConverter converter = new IdentifierListFilterEquipmentsConverter();
+
+    private int migratedFiltersCount;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        String query = "select l.identifier_list_filter_entity_id as filter_id, e.equipment_id, e.distribution_key "
+            + "from identifier_list_filter_filter_equipment_entity_list l "
+            + "join identifier_list_filter_equipment e on e.id = l.filter_equipment_entity_list_id "
+            + "order by l.identifier_list_filter_entity_id, l.equipment_id_order";
+        try {
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                migrate(connection, query);
+                if (autoCommit) {
+                    connection.commit();
+                }
+            } catch (SQLException | DatabaseException e) {
+                if (autoCommit) {
+                    connection.rollback();
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException | DatabaseException e) {
+            throw new CustomChangeException(e);
+        }
+        LOGGER.info("{} identifier list filters equipments migrated", migratedFiltersCount);
+    }
+
+    private void migrate(JdbcConnection connection, String query) throws SQLException, DatabaseException {
+        try (Statement equipmentsStatement = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement("update identifier_list_filter set equipments = ? where id = ?")) {
+            equipmentsStatement.setFetchSize(EQUIPMENTS_FETCH_SIZE);
+            try (ResultSet equipments = equipmentsStatement.executeQuery(query)) {
+                String currentFilterId = null;
+                List<IdentifierListFilterEquipmentEntity> filterEquipments = new ArrayList<>();
+                while (equipments.next()) {
+                    String filterId = equipments.getString("filter_id");
+                    if (currentFilterId != null && !currentFilterId.equals(filterId)) {
+                        addUpdate(update, currentFilterId, filterEquipments);
+                        filterEquipments = new ArrayList<>();
+                    }
+                    currentFilterId = filterId;
+                    double distributionKey = equipments.getDouble("distribution_key");
+                    filterEquipments.add(new IdentifierListFilterEquipmentEntity(equipments.getString("equipment_id"),
+                        equipments.wasNull() ? null : distributionKey));
+                }
+                if (currentFilterId != null) {
+                    addUpdate(update, currentFilterId, filterEquipments);
+                }
+            }
+            update.executeBatch();
+        }
+    }
+
+    private void addUpdate(PreparedStatement update, String filterId, List<IdentifierListFilterEquipmentEntity> filterEquipments) throws SQLException {
+        update.setBytes(1, converter.convertToDatabaseColumn(filterEquipments));
+        update.setObject(2, UUID.fromString(filterId));
+        update.addBatch();
+        migratedFiltersCount++;
+        if (migratedFiltersCount % UPDATE_BATCH_SIZE == 0) {
+            update.executeBatch();
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return migratedFiltersCount + " identifier list filters equipments were successfully migrated";
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+        LOGGER.info("Set up migration of the identifier list filters equipments");
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        LOGGER.info("Set file opener for the migration of the identifier list filters equipments");
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ *  Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.filter.server.repositories;
+
+import org.gridsuite.filter.identifierlistfilter.FilterMetadata;
+import org.gridsuite.filter.utils.EquipmentType;
+
+/**
+ * Projection of a filter row carrying its metadata and its equipment type,
+ * so that filter attributes can be listed without loading the filter entities.
+ */
+public interface FilterInfos extends FilterMetadata {
+    EquipmentType getEquipmentType();
+}
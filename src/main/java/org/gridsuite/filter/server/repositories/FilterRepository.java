@@ -7,16 +7,20 @@
 
 package org.gridsuite.filter.server.repositories;
 
-import org.gridsuite.filter.identifierlistfilter.FilterMetadata;
+import jakarta.persistence.QueryHint;
 import org.gridsuite.filter.server.entities.AbstractFilterEntity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.lang.NonNull;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * @author Jacques Borsenberger <jacques.borsenberger at rte-france.com>
@@ -24,11 +28,34 @@ import java.util.UUID;
 @NoRepositoryBean
 public interface FilterRepository<T extends AbstractFilterEntity> extends JpaRepository<T, UUID> {
 
-    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate from #{#entityName} as t")
-    List<FilterMetadata> getFiltersMetadata();
+    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate, t.equipmentType as equipmentType from #{#entityName} as t")
+    List<FilterInfos> getFiltersInfos();
 
-    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate from #{#entityName} as t WHERE t.id in (:ids)")
-    List<FilterMetadata> findFiltersMetaDataById(List<UUID> ids);
+    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate, t.equipmentType as equipmentType from #{#entityName} as t WHERE t.id in (:ids)")
+    List<FilterInfos> findFiltersInfosById(List<UUID> ids);
+
+    /**
+     * Keyset pagination over the filters, ordered by id: first page.
+     * @param pageable only its page size is used, the offset must stay at {@code 0}
+     */
+    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate, t.equipmentType as equipmentType from #{#entityName} as t ORDER BY t.id")
+    List<FilterInfos> findFirstFiltersInfos(Pageable pageable);
+
+    /**
+     * Keyset pagination over the filters, ordered by id: next pages.
+     * @param after the id of the last filter of the previous page
+     * @param pageable only its page size is used, the offset must stay at {@code 0}
+     */
+    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate, t.equipmentType as equipmentType from #{#entityName} as t "
+        + "WHERE t.id > :after ORDER BY t.id")
+    List<FilterInfos> findFiltersInfosAfter(UUID after, Pageable pageable);
+
+    /**
+     * Stream all the filters ordered by id, must be consumed (and closed) inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate, t.equipmentType as equipmentType from #{#entityName} as t ORDER BY t.id")
+    Stream<FilterInfos> streamFiltersInfos();
 
     /**
      * Remove a filter by id.
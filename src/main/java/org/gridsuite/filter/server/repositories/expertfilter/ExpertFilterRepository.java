@@ -8,11 +8,77 @@ package org.gridsuite.filter.server.repositories.expertfilter;
 
 import org.gridsuite.filter.server.entities.expertfilter.ExpertFilterEntity;
 import org.gridsuite.filter.server.repositories.FilterRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * @author Antoine Bouhours <antoine.bouhours at rte-france.com>
  */
 @Repository
 public interface ExpertFilterRepository extends FilterRepository<ExpertFilterEntity> {
+
+    @Query(value = "SELECT t.id as id, t.modificationDate as modificationDate, t.equipmentType as equipmentType, t.rulesJson as rulesJson "
+        + "from ExpertFilterEntity as t WHERE t.id in (:ids)")
+    List<ExpertFilterInfos> findExpertFiltersInfosById(Collection<UUID> ids);
+
+    /**
+     * Load the rules trees of filters with a single query, whatever their depth: each rule is returned
+     * with the id of its filter, the id of its parent rule and the columns of its value or properties row.
+     */
+    @Query(nativeQuery = true, value = "WITH RECURSIVE tree (filter_id, id) AS ("
+        + "  SELECT f.id, f.rules_id FROM expert_filter f WHERE f.id IN (:filterIds)"
+        + "  UNION ALL"
+        + "  SELECT t.filter_id, r.id FROM expert_rule r JOIN tree t ON r.parent_rule_id = t.id"
+        + ") "
+        + "SELECT t.filter_id AS \"filterId\", r.id AS \"id\", r.parent_rule_id AS \"parentRuleId\", r.combinator AS \"combinator\", "
+        + "r.field AS \"field\", r.operator AS \"operator\", r.data_type AS \"dataType\", v.value_ AS \"value\", p.property_name AS \"propertyName\" "
+        + "FROM tree t JOIN expert_rule r ON r.id = t.id "
+        + "LEFT JOIN expert_rule_value v ON v.id = r.id "
+        + "LEFT JOIN expert_rule_properties p ON p.id = r.id")
+    List<ExpertRuleInfos> findRulesInfosByFilterIds(Collection<UUID> filterIds);
+
+    @Query(nativeQuery = true, value = "SELECT v.expert_rule_properties_entity_id AS \"ruleId\", v.property_values AS \"propertyValue\" "
+        + "FROM expert_rule_property_value v WHERE v.expert_rule_properties_entity_id IN (:ruleIds) "
+        + "ORDER BY v.expert_rule_properties_entity_id, v.pos")
+    List<ExpertRuleInfos.PropertyValueInfos> findPropertyValuesInfosByRuleIds(Collection<UUID> ruleIds);
+
+    /**
+     * Copy filters and their rules trees inside the database with a single statement, the rules getting new generated ids
+     * and their parent rule ids being remapped to the copied rules (PostgreSQL only).
+     * @param sourceIds the ids of the filters to copy
+     * @param targetIds the ids of the copies, in the same order
+     * @return the number of filters copied
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "WITH RECURSIVE duplicates AS ("
+        + "  SELECT d.source_id, d.target_id FROM unnest(CAST(:sourceIds AS uuid[]), CAST(:targetIds AS uuid[])) AS d (source_id, target_id)"
+        + "), tree AS ("
+        + "  SELECT r.id FROM expert_rule r JOIN expert_filter f ON f.rules_id = r.id JOIN duplicates d ON d.source_id = f.id"
+        + "  UNION ALL"
+        + "  SELECT r.id FROM expert_rule r JOIN tree t ON r.parent_rule_id = t.id"
+        + "), mapping AS MATERIALIZED ("
+        + "  SELECT id AS old_id, gen_random_uuid() AS new_id FROM tree"
+        + "), rules AS ("
+        + "  INSERT INTO expert_rule (id, combinator, field, operator, data_type, parent_rule_id)"
+        + "  SELECT m.new_id, r.combinator, r.field, r.operator, r.data_type, p.new_id"
+        + "  FROM expert_rule r JOIN mapping m ON m.old_id = r.id LEFT JOIN mapping p ON p.old_id = r.parent_rule_id"
+        + "), rule_values AS ("
+        + "  INSERT INTO expert_rule_value (id, value_)"
+        + "  SELECT m.new_id, v.value_ FROM expert_rule_value v JOIN mapping m ON m.old_id = v.id"
+        + "), rule_properties AS ("
+        + "  INSERT INTO expert_rule_properties (id, property_name)"
+        + "  SELECT m.new_id, p.property_name FROM expert_rule_properties p JOIN mapping m ON m.old_id = p.id"
+        + "), rule_property_values AS ("
+        + "  INSERT INTO expert_rule_property_value (expert_rule_properties_entity_id, property_values, pos)"
+        + "  SELECT m.new_id, v.property_values, v.pos FROM expert_rule_property_value v JOIN mapping m ON m.old_id = v.expert_rule_properties_entity_id"
+        + ") "
+        + "INSERT INTO expert_filter (id, modification_date, equipment_type, rules_id, rules_json) "
+        + "SELECT d.target_id, now(), f.equipment_type, m.new_id, f.rules_json "
+        + "FROM duplicates d JOIN expert_filter f ON f.id = d.source_id LEFT JOIN mapping m ON m.old_id = f.rules_id")
+    int duplicateFilters(UUID[] sourceIds, UUID[] targetIds);
 }
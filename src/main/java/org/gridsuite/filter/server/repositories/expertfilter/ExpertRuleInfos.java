@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.filter.server.repositories.expertfilter;
+
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.DataType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+
+import java.util.UUID;
+
+/**
+ * Projection of an expert rule row joined with its value or properties row,
+ * so that the rules trees of filters can be loaded without walking the rule entities.
+ * @see ExpertFilterRepository#findRulesInfosByFilterIds(java.util.Collection)
+ */
+public interface ExpertRuleInfos {
+    UUID getFilterId();
+
+    UUID getId();
+
+    UUID getParentRuleId();
+
+    CombinatorType getCombinator();
+
+    FieldType getField();
+
+    OperatorType getOperator();
+
+    DataType getDataType();
+
+    String getValue();
+
+    String getPropertyName();
+
+    /**
+     * Projection of a property value row of a properties rule.
+     * @see ExpertFilterRepository#findPropertyValuesInfosByRuleIds(java.util.Collection)
+     */
+    interface PropertyValueInfos {
+        UUID getRuleId();
+
+        String getPropertyValue();
+    }
+}
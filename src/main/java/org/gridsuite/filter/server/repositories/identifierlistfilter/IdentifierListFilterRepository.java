@@ -9,10 +9,27 @@ package org.gridsuite.filter.server.repositories.identifierlistfilter;
 
 import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEntity;
 import org.gridsuite.filter.server.repositories.FilterRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
 
 /**
  * @author Seddik Yengui <seddik.yengui at rte-france.com>
  */
 
 public interface IdentifierListFilterRepository extends FilterRepository<IdentifierListFilterEntity> {
+
+    /**
+     * Copy filters with their equipments inside the database with a single statement (PostgreSQL only).
+     * @param sourceIds the ids of the filters to copy
+     * @param targetIds the ids of the copies, in the same order
+     * @return the number of filters copied
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO identifier_list_filter (id, modification_date, equipment_type, equipments) "
+        + "SELECT d.target_id, now(), f.equipment_type, f.equipments "
+        + "FROM unnest(CAST(:sourceIds AS uuid[]), CAST(:targetIds AS uuid[])) AS d (source_id, target_id) "
+        + "JOIN identifier_list_filter f ON f.id = d.source_id")
+    int duplicateFilters(UUID[] sourceIds, UUID[] targetIds);
 }
@@ -9,11 +9,11 @@ package org.gridsuite.filter.server.repositories.proxies;
 
 import org.gridsuite.filter.AbstractFilter;
 import org.gridsuite.filter.identifierlistfilter.FilterAttributes;
-import org.gridsuite.filter.identifierlistfilter.FilterMetadata;
 import org.gridsuite.filter.server.entities.AbstractFilterEntity;
+import org.gridsuite.filter.server.repositories.FilterInfos;
 import org.gridsuite.filter.server.repositories.FilterRepository;
-import org.gridsuite.filter.utils.EquipmentType;
 import org.gridsuite.filter.utils.FilterType;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.util.CollectionUtils;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -46,7 +46,12 @@ public abstract class AbstractFilterRepositoryProxy<F extends AbstractFilterEnti
 
     public abstract FilterType getFilterType();
 
-    public abstract EquipmentType getEquipmentType(UUID id);
+    /**
+     * Copy filters inside the database, without loading them (PostgreSQL only).
+     * @param sourceIds the ids of the filters to copy
+     * @param targetIds the ids of the copies, in the same order
+     */
+    public abstract void duplicateAllInDatabase(List<UUID> sourceIds, List<UUID> targetIds);
 
     public Optional<AbstractFilter> getFilter(UUID id) {
         Optional<F> element = getRepository().findById(id);
@@ -64,23 +69,40 @@ public abstract class AbstractFilterRepositoryProxy<F extends AbstractFilterEnti
     }
 
     public Stream<FilterAttributes> getFiltersAttributes() {
-        return getRepository().getFiltersMetadata().stream().map(this::metadataToAttribute);
+        return getRepository().getFiltersInfos().stream().map(this::infosToAttribute);
     }
 
     public Stream<FilterAttributes> getFiltersAttributes(List<UUID> ids) {
-        return getRepository().findFiltersMetaDataById(ids).stream().map(this::metadataToAttribute);
+        return getRepository().findFiltersInfosById(ids).stream().map(this::infosToAttribute);
+    }
+
+    public List<FilterAttributes> getFiltersAttributesAfter(UUID after, int size) {
+        List<FilterInfos> infos = after == null
+            ? getRepository().findFirstFiltersInfos(PageRequest.ofSize(size))
+            : getRepository().findFiltersInfosAfter(after, PageRequest.ofSize(size));
+        return infos.stream().map(this::infosToAttribute).toList();
     }
 
-    private FilterAttributes metadataToAttribute(final FilterMetadata f) {
-        return new FilterAttributes(f, getFilterType(), getEquipmentType(f.getId()));
+    public Stream<FilterAttributes> streamFiltersAttributes() {
+        return getRepository().streamFiltersInfos().map(this::infosToAttribute);
+    }
+
+    private FilterAttributes infosToAttribute(final FilterInfos f) {
+        return new FilterAttributes(f, getFilterType(), f.getEquipmentType());
     }
 
     public AbstractFilter insert(AbstractFilter f) {
         return toDto(getRepository().save(fromDto(f)));
     }
 
+    /**
+     * Insert filters whose ids are not used yet: the entities are persisted instead of merged,
+     * so that their rows are written with batched inserts.
+     */
     public List<AbstractFilter> insertAll(List<AbstractFilter> filters) {
-        List<F> savedFilterEntities = getRepository().saveAll(filters.stream().map(this::fromDto).toList());
+        List<F> filterEntities = filters.stream().map(this::fromDto).toList();
+        filterEntities.forEach(AbstractFilterEntity::markNew);
+        List<F> savedFilterEntities = getRepository().saveAll(filterEntities);
         return savedFilterEntities.stream().map(this::toDto).toList();
     }
 
@@ -15,15 +15,20 @@ import org.gridsuite.filter.server.entities.expertfilter.ExpertFilterEntity;
 import org.gridsuite.filter.server.entities.expertfilter.ExpertRuleEntity;
 import org.gridsuite.filter.server.entities.expertfilter.ExpertRulePropertiesEntity;
 import org.gridsuite.filter.server.entities.expertfilter.ExpertRuleValueEntity;
+import org.gridsuite.filter.server.repositories.expertfilter.ExpertFilterInfos;
 import org.gridsuite.filter.server.repositories.expertfilter.ExpertFilterRepository;
+import org.gridsuite.filter.server.repositories.expertfilter.ExpertRuleInfos;
 import org.gridsuite.filter.server.repositories.proxies.AbstractFilterRepositoryProxy;
-import org.gridsuite.filter.utils.EquipmentType;
 import org.gridsuite.filter.utils.FilterType;
 import org.gridsuite.filter.utils.expertfilter.DataType;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,9 +40,14 @@ import static org.gridsuite.filter.utils.expertfilter.OperatorType.isMultipleCri
  */
 public class ExpertFilterRepositoryProxy extends AbstractFilterRepositoryProxy<ExpertFilterEntity, ExpertFilterRepository> {
     private final ExpertFilterRepository expertFilterRepository;
+    private final boolean serializedRules;
 
-    public ExpertFilterRepositoryProxy(ExpertFilterRepository expertFilterRepository) {
+    /**
+     * @param serializedRules if true, the rules trees are written serialized, without rule rows, and read from their serialized form when present
+     */
+    public ExpertFilterRepositoryProxy(ExpertFilterRepository expertFilterRepository, boolean serializedRules) {
         this.expertFilterRepository = expertFilterRepository;
+        this.serializedRules = serializedRules;
     }
 
     @Override
@@ -51,10 +61,105 @@ public class ExpertFilterRepositoryProxy extends AbstractFilterRepositoryProxy<E
                 .id(filterEntity.getId())
                 .modificationDate(filterEntity.getModificationDate())
                 .equipmentType(filterEntity.getEquipmentType())
-                .rules(entityToDto(filterEntity.getRules()))
+                .rules(filterEntity.getRules() == null || (serializedRules && filterEntity.getRulesJson() != null)
+                    ? ExpertRulesJson.read(filterEntity.getRulesJson())
+                    : entityToDto(filterEntity.getRules()))
                 .build();
     }
 
+    @Override
+    public Optional<AbstractFilter> getFilter(UUID id) {
+        return getFilters(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * Load the filters without walking their rule entities: the serialized rules trees are read with the filter rows,
+     * the other rules trees are loaded with a constant number of queries and assembled in memory.
+     */
+    @Override
+    public List<AbstractFilter> getFilters(List<UUID> ids) {
+        List<ExpertFilterInfos> filtersInfos = expertFilterRepository.findExpertFiltersInfosById(ids);
+        Map<UUID, AbstractExpertRule> rulesByFilter = new HashMap<>();
+        List<UUID> filtersWithRuleRows = new ArrayList<>();
+        filtersInfos.forEach(filterInfos -> {
+            if (serializedRules && filterInfos.getRulesJson() != null) {
+                rulesByFilter.put(filterInfos.getId(), ExpertRulesJson.read(filterInfos.getRulesJson()));
+            } else {
+                filtersWithRuleRows.add(filterInfos.getId());
+            }
+        });
+        if (!filtersWithRuleRows.isEmpty()) {
+            rulesByFilter.putAll(loadRules(filtersWithRuleRows));
+        }
+        // filters written with the serialized rules storage enabled have no rule rows
+        filtersInfos.stream()
+            .filter(filterInfos -> !rulesByFilter.containsKey(filterInfos.getId()) && filterInfos.getRulesJson() != null)
+            .forEach(filterInfos -> rulesByFilter.put(filterInfos.getId(), ExpertRulesJson.read(filterInfos.getRulesJson())));
+
+        return filtersInfos.stream()
+            .map(filterInfos -> (AbstractFilter) ExpertFilter.builder()
+                .id(filterInfos.getId())
+                .modificationDate(filterInfos.getModificationDate())
+                .equipmentType(filterInfos.getEquipmentType())
+                .rules(rulesByFilter.get(filterInfos.getId()))
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private Map<UUID, AbstractExpertRule> loadRules(List<UUID> filterIds) {
+        List<ExpertRuleInfos> rulesInfos = expertFilterRepository.findRulesInfosByFilterIds(filterIds);
+        List<UUID> propertiesRuleIds = rulesInfos.stream()
+            .filter(ruleInfos -> ruleInfos.getDataType() == DataType.PROPERTIES)
+            .map(ExpertRuleInfos::getId)
+            .toList();
+        Map<UUID, List<String>> propertyValuesByRule = propertiesRuleIds.isEmpty() ? Map.of()
+            : expertFilterRepository.findPropertyValuesInfosByRuleIds(propertiesRuleIds).stream()
+                .collect(Collectors.groupingBy(ExpertRuleInfos.PropertyValueInfos::getRuleId,
+                    Collectors.mapping(ExpertRuleInfos.PropertyValueInfos::getPropertyValue, Collectors.toList())));
+        return assembleRules(rulesInfos, propertyValuesByRule);
+    }
+
+    /**
+     * Assemble rules trees from their rows.
+     * @param rulesInfos the rules rows of the filters, in the order of the siblings
+     * @param propertyValuesByRule the ordered property values of the properties rules
+     * @return the root rule of each filter, by filter id
+     */
+    public static Map<UUID, AbstractExpertRule> assembleRules(List<? extends ExpertRuleInfos> rulesInfos, Map<UUID, List<String>> propertyValuesByRule) {
+        // rebuild detached rule entities, so that they are converted like the loaded ones
+        Map<UUID, ExpertRuleEntity> rules = new HashMap<>();
+        rulesInfos.forEach(ruleInfos -> rules.put(ruleInfos.getId(), toRuleEntity(ruleInfos, propertyValuesByRule)));
+        Map<UUID, AbstractExpertRule> rootRuleByFilter = new HashMap<>();
+        rulesInfos.forEach(ruleInfos -> {
+            if (ruleInfos.getParentRuleId() != null) {
+                rules.get(ruleInfos.getParentRuleId()).getRules().add(rules.get(ruleInfos.getId()));
+            }
+        });
+        rulesInfos.stream()
+            .filter(ruleInfos -> ruleInfos.getParentRuleId() == null)
+            .forEach(ruleInfos -> rootRuleByFilter.put(ruleInfos.getFilterId(), entityToDto(rules.get(ruleInfos.getId()))));
+        return rootRuleByFilter;
+    }
+
+    private static ExpertRuleEntity toRuleEntity(ExpertRuleInfos ruleInfos, Map<UUID, List<String>> propertyValuesByRule) {
+        ExpertRuleEntity.ExpertRuleEntityBuilder<?, ?> ruleBuilder = switch (ruleInfos.getDataType()) {
+            case COMBINATOR -> ExpertRuleEntity.builder();
+            case PROPERTIES -> ExpertRulePropertiesEntity.builder()
+                .propertyName(ruleInfos.getPropertyName())
+                .propertyValues(propertyValuesByRule.getOrDefault(ruleInfos.getId(), new ArrayList<>()));
+            default -> ExpertRuleValueEntity.builder()
+                .value(ruleInfos.getValue());
+        };
+        return ruleBuilder
+            .id(ruleInfos.getId())
+            .combinator(ruleInfos.getCombinator())
+            .field(ruleInfos.getField())
+            .operator(ruleInfos.getOperator())
+            .dataType(ruleInfos.getDataType())
+            .rules(new ArrayList<>())
+            .build();
+    }
+
     public static AbstractExpertRule entityToDto(ExpertRuleEntity expertRuleEntity) {
         switch (expertRuleEntity.getDataType()) {
             case COMBINATOR -> {
@@ -166,7 +271,8 @@ public class ExpertFilterRepositoryProxy extends AbstractFilterRepositoryProxy<E
             var expertFilterEntityBuilder = ExpertFilterEntity.builder()
                     .modificationDate(filter.getModificationDate())
                     .equipmentType(filter.getEquipmentType())
-                    .rules(dtoToEntity(filter.getRules()));
+                    .rules(serializedRules ? null : dtoToEntity(filter.getRules()))
+                    .rulesJson(ExpertRulesJson.write(filter.getRules()));
             buildAbstractFilter(expertFilterEntityBuilder, filter);
             return expertFilterEntityBuilder.build();
         }
@@ -246,10 +352,8 @@ public class ExpertFilterRepositoryProxy extends AbstractFilterRepositoryProxy<E
     }
 
     @Override
-    public EquipmentType getEquipmentType(UUID id) {
-        return expertFilterRepository.findById(id)
-                .map(ExpertFilterEntity::getEquipmentType)
-                .orElseThrow(() -> new PowsyblException("Identifier list filter " + id + " not found"));
+    public void duplicateAllInDatabase(List<UUID> sourceIds, List<UUID> targetIds) {
+        getRepository().duplicateFilters(sourceIds.toArray(UUID[]::new), targetIds.toArray(UUID[]::new));
     }
 
 }
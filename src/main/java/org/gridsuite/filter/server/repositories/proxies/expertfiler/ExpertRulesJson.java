@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026, RTE (http://www.rte-france.com)
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.filter.server.repositories.proxies.expertfiler;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.powsybl.commons.PowsyblException;
+import org.gridsuite.filter.expertfilter.expertrule.AbstractExpertRule;
+
+/**
+ * Serialized form of a whole rules tree, stored in the {@code rules_json} column of the expert filters.
+ */
+public final class ExpertRulesJson {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        // the rules expose computed getters, serialized but not read back
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .build();
+
+    private ExpertRulesJson() {
+        // Utility class
+    }
+
+    /**
+     * @return the serialized rules tree, null for a filter without rules
+     */
+    public static String write(AbstractExpertRule rules) {
+        if (rules == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(rules);
+        } catch (JsonProcessingException e) {
+            throw new PowsyblException("Cannot serialize expert rules", e);
+        }
+    }
+
+    /**
+     * @return the rules tree, null for a filter without rules
+     */
+    public static AbstractExpertRule read(String rulesJson) {
+        if (rulesJson == null) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(rulesJson, AbstractExpertRule.class);
+        } catch (JsonProcessingException e) {
+            throw new PowsyblException("Cannot deserialize expert rules", e);
+        }
+    }
+}
@@ -15,8 +15,8 @@ import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListF
 import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEquipmentEntity;
 import org.gridsuite.filter.server.repositories.identifierlistfilter.IdentifierListFilterRepository;
 import org.gridsuite.filter.server.repositories.proxies.AbstractFilterRepositoryProxy;
-import org.gridsuite.filter.utils.EquipmentType;
 import org.gridsuite.filter.utils.FilterType;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -57,7 +57,6 @@ public class IdentifierListFilterRepositoryProxy extends AbstractFilterRepositor
                     .filterEquipmentEntityList(filter.getFilterEquipmentsAttributes()
                             .stream()
                             .map(attributes -> IdentifierListFilterEquipmentEntity.builder()
-                                    .id(UUID.randomUUID())
                                     .equipmentId(attributes.getEquipmentID())
                                     .distributionKey(attributes.getDistributionKey())
                                     .build())
@@ -75,10 +74,8 @@ public class IdentifierListFilterRepositoryProxy extends AbstractFilterRepositor
     }
 
     @Override
-    public EquipmentType getEquipmentType(UUID id) {
-        return identifierListFilterRepository.findById(id)
-            .map(IdentifierListFilterEntity::getEquipmentType)
-            .orElseThrow(() -> new PowsyblException("Identifier list filter " + id + " not found"));
+    public void duplicateAllInDatabase(List<UUID> sourceIds, List<UUID> targetIds) {
+        getRepository().duplicateFilters(sourceIds.toArray(UUID[]::new), targetIds.toArray(UUID[]::new));
     }
 
 }
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Writing of newline delimited JSON response bodies, one JSON document per line.
+ */
+public final class NdjsonUtils {
+
+    private NdjsonUtils() {
+        // Utility class
+    }
+
+    /**
+     * @return a consumer writing each value it accepts as a line of the output stream
+     */
+    public static <T> Consumer<T> writer(ObjectMapper objectMapper, OutputStream outputStream) {
+        return value -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(value));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * @return a response body writing the already computed values, one per line
+     */
+    public static StreamingResponseBody body(ObjectMapper objectMapper, Collection<?> values) {
+        return outputStream -> values.forEach(writer(objectMapper, outputStream));
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilterEquipmentAttributes;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.gridsuite.filter.server.NotificationService.HEADER_FILTER_CHANGE_TYPE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ContextConfiguration(classes = {FilterApplication.class, TestChannelBinderConfiguration.class})
+class FilterCacheInvalidationTest {
+
+    private static final long TIMEOUT = 1000;
+    private static final String FILTER_CHANGED_DESTINATION = "filter.changed";
+
+    @Autowired
+    private FilterService filterService;
+
+    @Autowired
+    private FilterCache filterCache;
+
+    @Autowired
+    private InputDestination input;
+
+    @Autowired
+    private OutputDestination output;
+
+    @AfterEach
+    void tearDown() {
+        filterService.deleteAll();
+        output.clear();
+    }
+
+    @Test
+    void testFilterChangesAreNotified() {
+        UUID filterId = UUID.randomUUID();
+        filterService.createFilter(createFilter(filterId, "GEN"));
+        assertFilterChangedMessage(NotificationService.FilterChangeType.UPDATED, filterId.toString());
+
+        filterService.updateFilter(filterId, createFilter(filterId, "GEN2"), "user");
+        assertFilterChangedMessage(NotificationService.FilterChangeType.UPDATED, filterId.toString());
+        output.clear();
+
+        filterService.deleteFilters(List.of(filterId));
+        assertFilterChangedMessage(NotificationService.FilterChangeType.DELETED, filterId.toString());
+
+        filterService.deleteAll();
+        assertFilterChangedMessage(NotificationService.FilterChangeType.ALL_DELETED, "");
+    }
+
+    @Test
+    void testNotifiedFilterChangesEvictTheCache() {
+        UUID filterId = UUID.randomUUID();
+        AbstractFilter filter = createFilter(filterId, "GEN");
+        AtomicInteger loads = new AtomicInteger();
+
+        filterCache.getAll(List.of(filterId), ids -> {
+            loads.incrementAndGet();
+            return Map.of(filterId, filter);
+        });
+        input.send(MessageBuilder.withPayload(UUID.randomUUID().toString())
+            .setHeader(HEADER_FILTER_CHANGE_TYPE, NotificationService.FilterChangeType.UPDATED.name())
+            .build(), FILTER_CHANGED_DESTINATION);
+        filterCache.getAll(List.of(filterId), ids -> {
+            loads.incrementAndGet();
+            return Map.of(filterId, filter);
+        });
+        assertEquals(1, loads.get());
+
+        input.send(MessageBuilder.withPayload(filterId.toString())
+            .setHeader(HEADER_FILTER_CHANGE_TYPE, NotificationService.FilterChangeType.DELETED.name())
+            .build(), FILTER_CHANGED_DESTINATION);
+        filterCache.getAll(List.of(filterId), ids -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+        assertEquals(2, loads.get());
+    }
+
+    private void assertFilterChangedMessage(NotificationService.FilterChangeType changeType, String payload) {
+        Message<byte[]> message = output.receive(TIMEOUT, FILTER_CHANGED_DESTINATION);
+        assertNotNull(message);
+        assertEquals(changeType.name(), message.getHeaders().get(HEADER_FILTER_CHANGE_TYPE));
+        assertEquals(payload, new String(message.getPayload()));
+    }
+
+    private static AbstractFilter createFilter(UUID filterId, String equipmentId) {
+        return new IdentifierListFilter(filterId, new Date(), EquipmentType.GENERATOR,
+            List.of(new IdentifierListFilterEquipmentAttributes(equipmentId, 1d)));
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.server.dto.CacheStatistics;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterCacheTest {
+
+    @Test
+    void testFiltersAreLoadedOnceUntilEvicted() {
+        FilterCache filterCache = new FilterCache(10, Duration.ofMinutes(1));
+        UUID filterId = UUID.randomUUID();
+        UUID notFoundFilterId = UUID.randomUUID();
+        AbstractFilter filter = new IdentifierListFilter(filterId, new Date(), EquipmentType.GENERATOR, List.of());
+        AtomicInteger loads = new AtomicInteger();
+        Function<Set<? extends UUID>, Map<UUID, AbstractFilter>> loader = ids -> {
+            loads.incrementAndGet();
+            return ids.contains(filterId) ? Map.of(filterId, filter) : Map.of();
+        };
+
+        assertThat(filterCache.getAll(List.of(filterId, notFoundFilterId), loader)).containsOnlyKeys(filterId);
+        assertThat(filterCache.getAll(List.of(filterId), loader)).containsEntry(filterId, filter);
+        assertThat(loads).hasValue(1);
+
+        filterCache.evict(List.of(filterId));
+        assertThat(filterCache.getAll(List.of(filterId), loader)).containsEntry(filterId, filter);
+        assertThat(loads).hasValue(2);
+
+        filterCache.evictAll();
+        CacheStatistics statistics = filterCache.getStatistics();
+        assertThat(statistics.hitCount()).isEqualTo(1);
+        assertThat(statistics.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testFilterLoadedDuringAnEvictionIsNotCached() throws Exception {
+        FilterCache filterCache = new FilterCache(10, Duration.ofMinutes(1));
+        UUID filterId = UUID.randomUUID();
+        AbstractFilter staleFilter = new IdentifierListFilter(filterId, new Date(), EquipmentType.GENERATOR, List.of());
+        AbstractFilter updatedFilter = new IdentifierListFilter(filterId, new Date(), EquipmentType.LOAD, List.of());
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<UUID, AbstractFilter>> staleLoad = executor.submit(() -> filterCache.getAll(List.of(filterId), ids -> {
+                loadStarted.countDown();
+                try {
+                    evicted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Map.of(filterId, staleFilter);
+            }));
+            assertThat(loadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            filterCache.evict(List.of(filterId));
+            evicted.countDown();
+
+            // the stale version is returned to its reader, but not cached for the next ones
+            assertThat(staleLoad.get(10, TimeUnit.SECONDS)).containsEntry(filterId, staleFilter);
+            assertThat(filterCache.getAll(List.of(filterId), ids -> Map.of(filterId, updatedFilter))).containsEntry(filterId, updatedFilter);
+            assertThat(filterCache.getAll(List.of(filterId), ids -> Map.of(filterId, staleFilter))).containsEntry(filterId, updatedFilter);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
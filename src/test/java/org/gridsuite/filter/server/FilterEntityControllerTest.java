@@ -9,6 +9,7 @@ package org.gridsuite.filter.server;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
@@ -20,6 +21,7 @@ import com.powsybl.iidm.network.test.*;
 import com.powsybl.network.store.client.NetworkStoreService;
 import com.powsybl.network.store.client.PreloadingStrategy;
 import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import jakarta.persistence.EntityManagerFactory;
 import org.gridsuite.filter.AbstractFilter;
 import org.gridsuite.filter.IFilterAttributes;
 import org.gridsuite.filter.expertfilter.ExpertFilter;
@@ -35,6 +37,8 @@ import org.gridsuite.filter.utils.FiltersWithEquipmentTypes;
 import org.gridsuite.filter.utils.expertfilter.CombinatorType;
 import org.gridsuite.filter.utils.expertfilter.FieldType;
 import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,20 +47,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.stream.binder.test.OutputDestination;
 import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.http.MediaType;
 import org.springframework.messaging.Message;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.StringUtils.join;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -85,6 +94,9 @@ class FilterEntityControllerTest {
     @Autowired
     private FilterService filterService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private OutputDestination output;
 
@@ -94,6 +106,9 @@ class FilterEntityControllerTest {
     @MockitoBean
     private NetworkStoreService networkStoreService;
 
+    @Autowired
+    private NetworkCache networkCache;
+
     public static final SortedSet<String> COUNTRIES1 = new TreeSet<>(Collections.singleton("France"));
     public static final SortedSet<String> COUNTRIES2 = new TreeSet<>(Collections.singleton("Germany"));
 
@@ -138,13 +153,14 @@ class FilterEntityControllerTest {
         Network network4 = ShuntTestCaseFactory.create(new NetworkFactoryImpl());
         Network network5 = ThreeWindingsTransformerNetworkFactory.create(new NetworkFactoryImpl());
         network6 = EurostagTutorialExample1Factory.createWithFixedCurrentLimits(new NetworkFactoryImpl());
-        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.COLLECTION)).willReturn(network);
-        given(networkStoreService.getNetwork(NETWORK_UUID_2, PreloadingStrategy.COLLECTION)).willReturn(network2);
-        given(networkStoreService.getNetwork(NETWORK_UUID_3, PreloadingStrategy.COLLECTION)).willReturn(network3);
-        given(networkStoreService.getNetwork(NETWORK_UUID_4, PreloadingStrategy.COLLECTION)).willReturn(network4);
-        given(networkStoreService.getNetwork(NETWORK_UUID_5, PreloadingStrategy.COLLECTION)).willReturn(network5);
-        given(networkStoreService.getNetwork(NETWORK_UUID_6, PreloadingStrategy.COLLECTION)).willReturn(network6);
-        given(networkStoreService.getNetwork(NETWORK_NOT_FOUND_UUID, PreloadingStrategy.COLLECTION)).willReturn(null);
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class))).willReturn(network);
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID_2), any(PreloadingStrategy.class))).willReturn(network2);
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID_3), any(PreloadingStrategy.class))).willReturn(network3);
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID_4), any(PreloadingStrategy.class))).willReturn(network4);
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID_5), any(PreloadingStrategy.class))).willReturn(network5);
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID_6), any(PreloadingStrategy.class))).willReturn(network6);
+        given(networkStoreService.getNetwork(eq(NETWORK_NOT_FOUND_UUID), any(PreloadingStrategy.class))).willReturn(null);
+        networkCache.evictAll();
 
         Configuration.setDefaults(new Configuration.Defaults() {
 
@@ -634,6 +650,17 @@ class FilterEntityControllerTest {
         assertEquals(3, filterEquipments.size());
         List<FilterEquipments> expected = new ArrayList<>(List.of(filterEquipment1, filterEquipment2, filterEquipment3));
         checkFilterEquipments(expected, filterEquipments);
+
+        // same export in the compact binary CBOR format
+        List<FilterEquipments> cborFilterEquipments = new CBORMapper().readValue(
+            mvc.perform(get(URL_TEMPLATE + "/export").params(params)
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray(),
+            new TypeReference<>() {
+            });
+        checkFilterEquipments(expected, cborFilterEquipments);
     }
 
     private void createExpertRules(List<AbstractExpertRule> rules, Set<String> countries, Set<Double> nominalVoltages) {
@@ -1094,6 +1121,47 @@ class FilterEntityControllerTest {
         checkFilterEvaluating(expertFilter, expectedResultJson);
     }
 
+    @Test
+    void testExpertFiltersRulesTreesLoading() throws Exception {
+        UUID filterId1 = UUID.randomUUID();
+        UUID filterId2 = UUID.randomUUID();
+
+        // three levels deep rules tree, with every kind of rule
+        PropertiesExpertRule propertiesRule = PropertiesExpertRule.builder().propertyName("region").propertyValues(List.of("north", "south", "east"))
+            .field(FieldType.FREE_PROPERTIES).operator(OperatorType.IN).build();
+        NumberExpertRule numberRule = NumberExpertRule.builder().values(new HashSet<>(Set.of(63., 90.)))
+            .field(FieldType.NOMINAL_VOLTAGE).operator(OperatorType.IN).build();
+        BooleanExpertRule booleanRule = BooleanExpertRule.builder().value(true)
+            .field(FieldType.VOLTAGE_REGULATOR_ON).operator(OperatorType.EQUALS).build();
+        CombinatorExpertRule orRule = CombinatorExpertRule.builder().combinator(CombinatorType.OR)
+            .rules(List.of(numberRule, CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(booleanRule)).build())).build();
+        EnumExpertRule enumRule = EnumExpertRule.builder().values(new HashSet<>(Set.of("FR", "BE")))
+            .field(FieldType.COUNTRY).operator(OperatorType.IN).build();
+        ExpertFilter expertFilter1 = new ExpertFilter(filterId1, new Date(), EquipmentType.GENERATOR,
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(propertiesRule, orRule, enumRule)).build());
+
+        StringExpertRule stringRule = StringExpertRule.builder().value("VL1")
+            .field(FieldType.VOLTAGE_LEVEL_ID).operator(OperatorType.IS).build();
+        ExpertFilter expertFilter2 = new ExpertFilter(filterId2, new Date(), EquipmentType.LOAD,
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(stringRule)).build());
+
+        insertFilter(filterId1, expertFilter1);
+        insertFilter(filterId2, expertFilter2);
+
+        // both trees are loaded together and assembled in memory
+        Map<UUID, AbstractFilter> loadedFilters = filterService.getFilters(List.of(filterId1, filterId2)).stream()
+            .collect(Collectors.toMap(AbstractFilter::getId, filter -> filter));
+        assertEquals(2, loadedFilters.size());
+        Assertions.assertThat((ExpertFilter) loadedFilters.get(filterId1)).recursivelyEquals(expertFilter1, "topologyKind");
+        Assertions.assertThat((ExpertFilter) loadedFilters.get(filterId2)).recursivelyEquals(expertFilter2, "topologyKind");
+        // property values keep their order
+        PropertiesExpertRule loadedPropertiesRule = (PropertiesExpertRule) ((ExpertFilter) loadedFilters.get(filterId1)).getRules().getRules().stream()
+            .filter(PropertiesExpertRule.class::isInstance).findFirst().orElseThrow();
+        assertEquals(List.of("north", "south", "east"), loadedPropertiesRule.getPropertyValues());
+
+        assertTrue(filterService.getFilters(List.of(UUID.randomUUID())).isEmpty());
+    }
+
     @Test
     void testExpertFilterGeneratorWithInAndNotInOperator() throws Exception {
         UUID filterId = UUID.fromString("77614d91-c168-4f89-8fb9-77a23729e88e");
@@ -1524,6 +1592,95 @@ class FilterEntityControllerTest {
         Assertions.assertThat(allFilters).isEmpty();
     }
 
+    @Test
+    void testFiltersAreInsertedInBatchWithoutSelect() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<AbstractFilter> filters = Stream.generate(() -> (AbstractFilter) new IdentifierListFilter(UUID.randomUUID(), new Date(),
+                    EquipmentType.GENERATOR, List.of(new IdentifierListFilterEquipmentAttributes("GEN", 1.0))))
+                .limit(10)
+                .toList();
+            filterService.createFilters(filters);
+
+            // the new filters are persisted instead of merged: no select before the inserts, sent as a single batch
+            assertEquals(10, statistics.getEntityInsertCount());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        assertEquals(10, getAllFilters().size());
+    }
+
+    @Test
+    void testFiltersUpdateInBatchWithTypeChange() throws Exception {
+        Date date = new Date();
+        UUID identifierListFilterId = UUID.randomUUID();
+        IdentifierListFilter identifierListFilter = new IdentifierListFilter(identifierListFilterId, date, EquipmentType.GENERATOR,
+            List.of(new IdentifierListFilterEquipmentAttributes("GEN", 1.0)));
+        UUID expertFilterId = UUID.randomUUID();
+        ExpertFilter expertFilter = new ExpertFilter(expertFilterId, date, EquipmentType.GENERATOR, CombinatorExpertRule.builder()
+            .combinator(CombinatorType.AND).rules(List.of(NumberExpertRule.builder().field(FieldType.NOMINAL_VOLTAGE)
+                .operator(OperatorType.EQUALS).value(20.).build())).build());
+        insertFilters(Map.of(identifierListFilterId, identifierListFilter, expertFilterId, expertFilter));
+
+        // the identifier list becomes an expert filter, the expert filter keeps its type
+        ExpertFilter newExpertFilter = new ExpertFilter(null, date, EquipmentType.LOAD, CombinatorExpertRule.builder()
+            .combinator(CombinatorType.AND).rules(List.of(StringExpertRule.builder().field(FieldType.ID)
+                .operator(OperatorType.IS).value("LOAD").build())).build());
+        ExpertFilter modifiedExpertFilter = new ExpertFilter(null, date, EquipmentType.LINE, CombinatorExpertRule.builder()
+            .combinator(CombinatorType.OR).rules(List.of(NumberExpertRule.builder().field(FieldType.NOMINAL_VOLTAGE_1)
+                .operator(OperatorType.GREATER).value(100.).build())).build());
+        List<AbstractFilter> updatedFilters = updateFilters(Map.of(identifierListFilterId, newExpertFilter, expertFilterId, modifiedExpertFilter));
+
+        assertEquals(Set.of(identifierListFilterId, expertFilterId), updatedFilters.stream().map(AbstractFilter::getId).collect(Collectors.toSet()));
+        newExpertFilter.setId(identifierListFilterId);
+        checkExpertFilter(identifierListFilterId, newExpertFilter);
+        modifiedExpertFilter.setId(expertFilterId);
+        checkExpertFilter(expertFilterId, modifiedExpertFilter);
+        assertEquals(2, getAllFilters().size());
+
+        // and back to an identifier list, along a filter keeping its type
+        IdentifierListFilter newIdentifierListFilter = new IdentifierListFilter(null, date, EquipmentType.LOAD,
+            List.of(new IdentifierListFilterEquipmentAttributes("LOAD", null)));
+        updateFilters(Map.of(identifierListFilterId, newIdentifierListFilter, expertFilterId, expertFilter));
+        newIdentifierListFilter.setId(identifierListFilterId);
+        checkIdentifierListFilter(identifierListFilterId, newIdentifierListFilter);
+        checkExpertFilter(expertFilterId, expertFilter);
+
+        deleteFilters(List.of(identifierListFilterId, expertFilterId));
+    }
+
+    @Test
+    void testFiltersUpdateInBatchWithCycle() throws Exception {
+        Date date = new Date();
+        UUID filterId1 = UUID.randomUUID();
+        IdentifierListFilter identifierListFilter1 = new IdentifierListFilter(filterId1, date, EquipmentType.LOAD,
+            List.of(new IdentifierListFilterEquipmentAttributes("LOAD", null)));
+        UUID filterId2 = UUID.randomUUID();
+        IdentifierListFilter identifierListFilter2 = new IdentifierListFilter(filterId2, date, EquipmentType.LOAD,
+            List.of(new IdentifierListFilterEquipmentAttributes("LOAD", null)));
+        insertFilters(Map.of(filterId1, identifierListFilter1, filterId2, identifierListFilter2));
+
+        // each new filter only references the other one: the cycle only exists between the new versions
+        Map<UUID, AbstractFilter> filtersToUpdateMap = Map.of(
+            filterId1, new ExpertFilter(null, date, EquipmentType.LOAD, CombinatorExpertRule.builder().combinator(CombinatorType.AND)
+                .rules(List.of(FilterUuidExpertRule.builder().values(Set.of(filterId2.toString())).field(FieldType.ID).operator(OperatorType.IS_PART_OF).build())).build()),
+            filterId2, new ExpertFilter(null, date, EquipmentType.LOAD, CombinatorExpertRule.builder().combinator(CombinatorType.AND)
+                .rules(List.of(FilterUuidExpertRule.builder().values(Set.of(filterId1.toString())).field(FieldType.ID).operator(OperatorType.IS_PART_OF).build())).build()));
+        mvc.perform(put(URL_TEMPLATE + "/batch")
+                        .content(objectMapper.writeValueAsString(filtersToUpdateMap))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        // none of the filters is updated
+        checkIdentifierListFilter(filterId1, identifierListFilter1);
+        checkIdentifierListFilter(filterId2, identifierListFilter2);
+
+        deleteFilters(List.of(filterId1, filterId2));
+    }
+
     @Test
     void testExportBusId() throws Exception {
         UUID filterId = UUID.fromString("77614d91-c168-4f89-8fb9-77a23729e88e");
@@ -1551,6 +1708,59 @@ class FilterEntityControllerTest {
         deleteFilter(filterId);
     }
 
+    @Test
+    void testExportStreams() throws Exception {
+        UUID filterId = UUID.randomUUID();
+        StringExpertRule stringInRule = StringExpertRule.builder().values(new HashSet<>(Arrays.asList("VLGEN", "VLLOAD")))
+                .field(FieldType.VOLTAGE_LEVEL_ID).operator(OperatorType.IN).build();
+        CombinatorExpertRule inFilter = CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(Collections.singletonList(stringInRule)).build();
+        ExpertFilter expertFilter = new ExpertFilter(filterId, new Date(), EquipmentType.VOLTAGE_LEVEL, inFilter);
+        insertFilter(filterId, expertFilter);
+
+        MvcResult mvcResult = mvc.perform(get(URL_TEMPLATE + "/" + filterId + "/export/stream")
+                        .param("networkUuid", NETWORK_UUID.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String content = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        List<IdentifiableAttributes> identifiables = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            identifiables.add(objectMapper.readValue(line, IdentifiableAttributes.class));
+        }
+        assertEquals(Set.of("VLGEN", "VLLOAD"), identifiables.stream().map(IdentifiableAttributes::getId).collect(Collectors.toSet()));
+
+        mvcResult = mvc.perform(get(URL_TEMPLATE + "/export/stream")
+                        .param("networkUuid", NETWORK_UUID.toString())
+                        .param("ids", filterId.toString(), UUID.randomUUID().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        content = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        FilterEquipments filterEquipments = objectMapper.readValue(content.strip(), FilterEquipments.class);
+        assertEquals(filterId, filterEquipments.getFilterId());
+        assertEquals(2, filterEquipments.getIdentifiableAttributes().size());
+
+        mvcResult = mvc.perform(get(URL_TEMPLATE + "/export/busIds/stream")
+                        .param("networkUuid", NETWORK_UUID.toString())
+                        .param("ids", filterId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        content = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        filterEquipments = objectMapper.readValue(content.strip(), FilterEquipments.class);
+        assertEquals(List.of("VLGEN_0", "VLLOAD_0"), filterEquipments.getIdentifiableAttributes().stream().map(IdentifiableAttributes::getId).sorted().toList());
+
+        mvc.perform(get(URL_TEMPLATE + "/" + UUID.randomUUID() + "/export/stream")
+                        .param("networkUuid", NETWORK_UUID.toString()))
+                .andExpect(status().isNotFound());
+
+        deleteFilter(filterId);
+    }
+
     @Test
     void testWrongExportBusId() throws Exception {
         UUID filterId = UUID.fromString("77614d91-c168-4f89-8fb9-77a23729e88e");
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.FilterType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final FilterMetrics filterMetrics = new FilterMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testFilterLoadsAreRecordedOncePerRequest() {
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        filterMetrics.countFilterLoads(2);
+        filterMetrics.countFilterLoads(0);
+        filterMetrics.countFilterLoads(3);
+        DistributionSummary filterLoadCount = meterRegistry.get(FilterMetrics.FILTER_LOAD_COUNT).summary();
+        assertThat(filterLoadCount.count()).isZero();
+
+        requestAttributes.requestCompleted();
+        assertThat(filterLoadCount.count()).isEqualTo(1);
+        assertThat(filterLoadCount.totalAmount()).isEqualTo(5);
+    }
+
+    @Test
+    void testMetersAreRegisteredOncePerTags() {
+        filterMetrics.timeEvaluation(FilterType.EXPERT, EquipmentType.LINE, () -> null);
+        filterMetrics.timeEvaluation(FilterType.EXPERT, EquipmentType.LINE, () -> null);
+        filterMetrics.timeEvaluation(FilterType.IDENTIFIER_LIST, null, () -> null);
+        filterMetrics.recordEvaluatedEquipmentCount(null, 10);
+        filterMetrics.timeGlobalFilter(() -> null);
+
+        assertThat(meterRegistry.get(FilterMetrics.EVALUATION_TIMER).timers()).hasSize(2);
+        Timer lineEvaluationTimer = meterRegistry.get(FilterMetrics.EVALUATION_TIMER).tag("equipment_type", "LINE").timer();
+        assertThat(lineEvaluationTimer.count()).isEqualTo(2);
+        assertThat(meterRegistry.get(FilterMetrics.EVALUATION_EQUIPMENT_COUNT).tag("equipment_type", "null").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(FilterMetrics.GLOBAL_FILTER_TIMER).timer().getId().getTags()).isEmpty();
+    }
+}
@@ -6,21 +6,38 @@
  */
 package org.gridsuite.filter.server;
 
-import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.IdentifiableType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.gridsuite.filter.exception.FilterCycleException;
+import org.gridsuite.filter.identifierlistfilter.FilterEquipments;
+import org.gridsuite.filter.identifierlistfilter.IdentifiableAttributes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Mohamed Ben-rejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
@@ -31,16 +48,19 @@ class FilterServiceTest {
     @Mock
     private RepositoryService repositoryService;
     @Mock
-    private NetworkStoreService networkStoreService;
+    private NetworkCache networkCache;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private FilterCache filterCache;
 
     @Autowired
     private FilterService filterService;
 
     @BeforeEach
     void setUp() {
-        filterService = new FilterService(repositoryService, networkStoreService, notificationService);
+        filterService = new FilterService(repositoryService, networkCache, notificationService, filterCache,
+            new FilterMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -63,6 +83,64 @@ class FilterServiceTest {
         assertThat(properties).isEmpty();
     }
 
+    @Test
+    void duplicateFiltersInDatabase() {
+        UUID source = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        Map<UUID, UUID> uuidsMap = Map.of(source, UUID.randomUUID());
+        when(repositoryService.isDatabaseDuplicationSupported()).thenReturn(true);
+        when(repositoryService.duplicateFiltersInDatabase(List.of(source))).thenReturn(uuidsMap);
+        when(repositoryService.duplicateFiltersInDatabase(List.of(source, missing))).thenReturn(uuidsMap);
+
+        assertThat(filterService.duplicateFilters(List.of(source))).isEqualTo(uuidsMap);
+        verify(repositoryService, never()).getFilters(anyList());
+
+        List<UUID> filterUuids = List.of(source, missing);
+        assertThatThrownBy(() -> filterService.duplicateFilters(filterUuids))
+            .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void busViewOfAVoltageLevelIsComputedOncePerExport() throws Exception {
+        Network network = mock(Network.class);
+        VoltageLevel voltageLevel = mock(VoltageLevel.class);
+        Bus bus = mock(Bus.class);
+        when(bus.getId()).thenReturn("VL1_0");
+        VoltageLevel.BusView busView = mock(VoltageLevel.BusView.class);
+        when(busView.getBusStream()).thenAnswer(invocation -> Stream.of(bus));
+        when(voltageLevel.getBusView()).thenReturn(busView);
+        when(network.getVoltageLevel("VL1")).thenReturn(voltageLevel);
+        IdentifiableAttributes vl1 = new IdentifiableAttributes("VL1", IdentifiableType.VOLTAGE_LEVEL, null);
+        IdentifiableAttributes unknownVl = new IdentifiableAttributes("UNKNOWN_VL", IdentifiableType.VOLTAGE_LEVEL, null);
+        UUID firstFilterId = UUID.randomUUID();
+        UUID secondFilterId = UUID.randomUUID();
+
+        Map<String, Optional<List<IdentifiableAttributes>>> busesByVoltageLevel = new HashMap<>();
+        FilterEquipments firstBuses = invokeToBusFilterEquipments(new FilterEquipments(firstFilterId, List.of(vl1, unknownVl), List.of("MISSING")),
+            network, busesByVoltageLevel);
+        FilterEquipments secondBuses = invokeToBusFilterEquipments(new FilterEquipments(secondFilterId, List.of(unknownVl, vl1), null),
+            network, busesByVoltageLevel);
+
+        assertThat(firstBuses.getFilterId()).isEqualTo(firstFilterId);
+        assertThat(firstBuses.getIdentifiableAttributes()).extracting(IdentifiableAttributes::getId).containsExactly("VL1_0");
+        assertThat(firstBuses.getNotFoundEquipments()).containsExactly("MISSING", "UNKNOWN_VL");
+        assertThat(secondBuses.getIdentifiableAttributes()).extracting(IdentifiableAttributes::getId).containsExactly("VL1_0");
+        assertThat(secondBuses.getNotFoundEquipments()).containsExactly("UNKNOWN_VL");
+        verify(voltageLevel, times(1)).getBusView();
+        verify(network, times(1)).getVoltageLevel("UNKNOWN_VL");
+    }
+
+    private static FilterEquipments invokeToBusFilterEquipments(FilterEquipments filterEquipments, Network network,
+                                                                Map<String, Optional<List<IdentifiableAttributes>>> busesByVoltageLevel) throws Exception {
+        Method helper = FilterService.class.getDeclaredMethod("toBusFilterEquipments", FilterEquipments.class, Network.class, Map.class);
+        helper.setAccessible(true);
+        try {
+            return (FilterEquipments) helper.invoke(null, filterEquipments, network, busesByVoltageLevel);
+        } catch (InvocationTargetException targetException) {
+            throw (Exception) targetException.getCause();
+        }
+    }
+
     private Map<String, Object> invokeGetCyclicFilterIds(List<UUID> cycle) throws Exception {
         FilterCycleException exception = new FilterCycleException("cycle", cycle);
         Method helper = FilterService.class.getDeclaredMethod("getCyclicFilterIds", FilterCycleException.class);
@@ -41,6 +41,8 @@ import java.util.Set;
 import java.util.UUID;
 
 import static com.powsybl.iidm.network.VariantManagerConstants.INITIAL_VARIANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -65,6 +67,9 @@ class GlobalFilterControllerTest {
     @MockitoBean
     private NetworkStoreService networkStoreService;
 
+    @Autowired
+    private NetworkCache networkCache;
+
     private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
 
     @BeforeEach
@@ -84,7 +89,8 @@ class GlobalFilterControllerTest {
         network.getGenerator("GEN2").setProperty("region", "south");
         network.getLoad("LOAD").setProperty("region", "north");
         network.getVoltageLevel("VLGEN").setName("VLGEN");
-        given(networkStoreService.getNetwork(NETWORK_UUID, PreloadingStrategy.COLLECTION)).willReturn(network);
+        given(networkStoreService.getNetwork(eq(NETWORK_UUID), any(PreloadingStrategy.class))).willReturn(network);
+        networkCache.evictAll();
 
         Configuration.setDefaults(new Configuration.Defaults() {
 
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEquipmentEntity;
+import org.gridsuite.filter.server.entities.identifierlistfilter.IdentifierListFilterEquipmentsConverter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentifierListFilterEquipmentsConverterTest {
+    private final IdentifierListFilterEquipmentsConverter converter = new IdentifierListFilterEquipmentsConverter();
+
+    @Test
+    void testEquipmentsRoundTrip() {
+        List<IdentifierListFilterEquipmentEntity> equipments = List.of(
+            new IdentifierListFilterEquipmentEntity("GEN", 1.5),
+            new IdentifierListFilterEquipmentEntity("GEN2", null),
+            new IdentifierListFilterEquipmentEntity("", 0.));
+
+        List<IdentifierListFilterEquipmentEntity> decoded = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(equipments));
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(equipments);
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(List.of()))).isEmpty();
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    void testLargeListsAreCompact() {
+        List<IdentifierListFilterEquipmentEntity> equipments = IntStream.range(0, 100_000)
+            .mapToObj(i -> new IdentifierListFilterEquipmentEntity("GENERATOR_" + i, null))
+            .toList();
+
+        byte[] data = converter.convertToDatabaseColumn(equipments);
+
+        // ids share long prefixes, so they compress well below their raw size
+        assertThat(data.length).isLessThan(equipments.size() * "GENERATOR_00000".length() / 2);
+        assertThat(converter.convertToEntityAttribute(data)).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(equipments);
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.PreloadingStrategy;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.filter.server.NetworkCache.NetworkLease;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NetworkCacheTest {
+
+    private static final String VARIANT_ID = "variant_1";
+
+    @Test
+    void testNetworksAreReusedUntilEvicted() {
+        UUID networkUuid = UUID.randomUUID();
+        UUID notFoundNetworkUuid = UUID.randomUUID();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        NetworkStoreService networkStoreService = mock(NetworkStoreService.class);
+        given(networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION)).willReturn(network);
+        NetworkCache networkCache = new NetworkCache(networkStoreService, new FilterMetrics(new SimpleMeterRegistry()), 10, 4, Duration.ofMinutes(1));
+
+        try (NetworkLease lease = networkCache.acquire(networkUuid, null)) {
+            assertThat(lease.getNetwork()).isSameAs(network);
+        }
+        try (NetworkLease lease = networkCache.acquire(networkUuid, VariantManagerConstants.INITIAL_VARIANT_ID)) {
+            assertThat(lease.getNetwork()).isSameAs(network);
+        }
+        verify(networkStoreService, times(1)).getNetwork(any(UUID.class), any(PreloadingStrategy.class));
+
+        assertThat(networkCache.acquire(notFoundNetworkUuid, null)).isNull();
+        assertThat(networkCache.acquire(notFoundNetworkUuid, null)).isNull();
+        verify(networkStoreService, times(2)).getNetwork(notFoundNetworkUuid, PreloadingStrategy.COLLECTION);
+
+        networkCache.evict(networkUuid);
+        try (NetworkLease lease = networkCache.acquire(networkUuid, null)) {
+            assertThat(lease.getNetwork()).isSameAs(network);
+        }
+        verify(networkStoreService, times(2)).getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+        assertThat(networkCache.getStatistics().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testLeaseSetsTheWorkingVariant() {
+        UUID networkUuid = UUID.randomUUID();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID);
+        network.getVariantManager().setWorkingVariant(VARIANT_ID);
+        network.getGenerator("GEN").remove();
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        NetworkStoreService networkStoreService = mock(NetworkStoreService.class);
+        given(networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION)).willReturn(network);
+        NetworkCache networkCache = new NetworkCache(networkStoreService, new FilterMetrics(new SimpleMeterRegistry()), 10, 4, Duration.ofMinutes(1));
+
+        try (NetworkLease lease = networkCache.acquire(networkUuid, VARIANT_ID)) {
+            assertThat(lease.getNetwork().getGenerator("GEN")).isNull();
+        }
+        try (NetworkLease lease = networkCache.acquire(networkUuid, null)) {
+            assertThat(lease.getNetwork().getGenerator("GEN")).isNotNull();
+        }
+        verify(networkStoreService, times(1)).getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void testNetworksAreReloadedOnEvictionOrUnknownVariant() {
+        UUID networkUuid = UUID.randomUUID();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        Network modifiedNetwork = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        modifiedNetwork.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID);
+        NetworkStoreService networkStoreService = mock(NetworkStoreService.class);
+        given(networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION)).willReturn(network, modifiedNetwork, network);
+        NetworkCache networkCache = new NetworkCache(networkStoreService, new FilterMetrics(new SimpleMeterRegistry()), 10, 4, Duration.ofMinutes(1));
+
+        assertThat(getNetwork(networkCache, networkUuid)).isSameAs(network);
+        // a variant unknown by the cached network reloads it
+        try (NetworkLease lease = networkCache.acquire(networkUuid, VARIANT_ID)) {
+            assertThat(lease.getNetwork()).isSameAs(modifiedNetwork);
+        }
+
+        networkCache.evict(networkUuid);
+        assertThat(getNetwork(networkCache, networkUuid)).isSameAs(network);
+        verify(networkStoreService, times(3)).getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void testConcurrentLeasesUseTheirOwnInstance() throws Exception {
+        UUID networkUuid = UUID.randomUUID();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        Network otherNetwork = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        otherNetwork.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID);
+        NetworkStoreService networkStoreService = mock(NetworkStoreService.class);
+        given(networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION)).willReturn(network, otherNetwork);
+        NetworkCache networkCache = new NetworkCache(networkStoreService, new FilterMetrics(new SimpleMeterRegistry()), 10, 4, Duration.ofMinutes(1));
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try (NetworkLease lease = networkCache.acquire(networkUuid, null)) {
+            assertThat(lease.getNetwork()).isSameAs(network);
+            // not blocked by the lease on the first instance, and on its own working variant
+            Future<Network> otherRequest = executor.submit(() -> {
+                try (NetworkLease otherLease = networkCache.acquire(networkUuid, VARIANT_ID)) {
+                    assertThat(otherLease.getNetwork().getVariantManager().getWorkingVariantId()).isEqualTo(VARIANT_ID);
+                    return otherLease.getNetwork();
+                }
+            });
+            assertThat(otherRequest.get(10, TimeUnit.SECONDS)).isSameAs(otherNetwork);
+            assertThat(lease.getNetwork().getVariantManager().getWorkingVariantId()).isEqualTo(VariantManagerConstants.INITIAL_VARIANT_ID);
+        } finally {
+            executor.shutdown();
+        }
+        verify(networkStoreService, times(2)).getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void testRequestsWaitForAReleasedInstanceWhenThePoolIsFull() throws Exception {
+        UUID networkUuid = UUID.randomUUID();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        NetworkStoreService networkStoreService = mock(NetworkStoreService.class);
+        given(networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION)).willAnswer(invocation -> {
+            loadStarted.countDown();
+            loadReleased.await();
+            return network;
+        });
+        NetworkCache networkCache = new NetworkCache(networkStoreService, new FilterMetrics(new SimpleMeterRegistry()), 10, 1, Duration.ofMinutes(1));
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Future<Network> firstRequest = executor.submit(() -> getNetwork(networkCache, networkUuid));
+            loadStarted.await();
+            Future<Network> secondRequest = executor.submit(() -> getNetwork(networkCache, networkUuid));
+            assertThatThrownBy(() -> secondRequest.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            loadReleased.countDown();
+            assertThat(firstRequest.get()).isSameAs(network);
+            assertThat(secondRequest.get()).isSameAs(network);
+        } finally {
+            executor.shutdown();
+        }
+        verify(networkStoreService, times(1)).getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void testInstanceLoadedBeforeAnEvictionIsNotReused() throws Exception {
+        UUID networkUuid = UUID.randomUUID();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        Network modifiedNetwork = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        NetworkStoreService networkStoreService = mock(NetworkStoreService.class);
+        given(networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION)).willAnswer(invocation -> {
+            loadStarted.countDown();
+            loadReleased.await();
+            return network;
+        }).willReturn(modifiedNetwork);
+        NetworkCache networkCache = new NetworkCache(networkStoreService, new FilterMetrics(new SimpleMeterRegistry()), 10, 4, Duration.ofMinutes(1));
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Future<Network> request = executor.submit(() -> getNetwork(networkCache, networkUuid));
+            loadStarted.await();
+            networkCache.evict(networkUuid);
+            loadReleased.countDown();
+            // the request which started the load still uses its instance, which is dropped once released
+            assertThat(request.get()).isSameAs(network);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(getNetwork(networkCache, networkUuid)).isSameAs(modifiedNetwork);
+        assertThat(getNetwork(networkCache, networkUuid)).isSameAs(modifiedNetwork);
+        verify(networkStoreService, times(2)).getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+    }
+
+    @Test
+    void testExpiredInstancesAreNotReused() {
+        UUID networkUuid = UUID.randomUUID();
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl());
+        NetworkStoreService networkStoreService = mock(NetworkStoreService.class);
+        given(networkStoreService.getNetwork(networkUuid, PreloadingStrategy.COLLECTION)).willReturn(network);
+        NetworkCache networkCache = new NetworkCache(networkStoreService, new FilterMetrics(new SimpleMeterRegistry()), 10, 4, Duration.ZERO);
+
+        getNetwork(networkCache, networkUuid);
+        getNetwork(networkCache, networkUuid);
+        verify(networkStoreService, times(2)).getNetwork(networkUuid, PreloadingStrategy.COLLECTION);
+        assertThat(networkCache.getStatistics().size()).isZero();
+        assertThat(networkCache.getStatistics().hitCount()).isZero();
+    }
+
+    private static Network getNetwork(NetworkCache networkCache, UUID networkUuid) {
+        try (NetworkLease lease = networkCache.acquire(networkUuid, null)) {
+            return lease.getNetwork();
+        }
+    }
+}
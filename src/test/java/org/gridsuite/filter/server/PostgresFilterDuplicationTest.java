@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.expertfilter.expertrule.*;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilterEquipmentAttributes;
+import org.gridsuite.filter.server.utils.assertions.Assertions;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The filters are duplicated by native queries on PostgreSQL only, they are run here on a PostgreSQL container.
+ */
+@SpringBootTest
+@ContextConfiguration(classes = {FilterApplication.class, TestChannelBinderConfiguration.class})
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresFilterDuplicationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("powsybl-ws.database.vendor", () -> "postgresql");
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.database", () -> "POSTGRESQL");
+        registry.add("spring.jpa.properties.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private FilterService filterService;
+
+    @Autowired
+    private RepositoryService repositoryService;
+
+    @AfterEach
+    void tearDown() {
+        filterService.deleteAll();
+    }
+
+    @Test
+    void testFiltersAreDuplicatedInDatabase() {
+        assertThat(repositoryService.isDatabaseDuplicationSupported()).isTrue();
+
+        IdentifierListFilter identifierListFilter = new IdentifierListFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+            List.of(new IdentifierListFilterEquipmentAttributes("GEN", 7d), new IdentifierListFilterEquipmentAttributes("GEN2", null)));
+        PropertiesExpertRule propertiesRule = PropertiesExpertRule.builder().propertyName("region").propertyValues(List.of("north", "south"))
+            .field(FieldType.FREE_PROPERTIES).operator(OperatorType.IN).build();
+        NumberExpertRule numberRule = NumberExpertRule.builder().value(63.)
+            .field(FieldType.NOMINAL_VOLTAGE).operator(OperatorType.GREATER).build();
+        EnumExpertRule enumRule = EnumExpertRule.builder().values(new HashSet<>(Set.of("FR", "BE")))
+            .field(FieldType.COUNTRY).operator(OperatorType.IN).build();
+        FilterUuidExpertRule filterUuidRule = FilterUuidExpertRule.builder().values(Set.of(identifierListFilter.getId().toString()))
+            .field(FieldType.ID).operator(OperatorType.IS_PART_OF).build();
+        CombinatorExpertRule orRule = CombinatorExpertRule.builder().combinator(CombinatorType.OR).rules(List.of(numberRule, enumRule)).build();
+        ExpertFilter expertFilter = new ExpertFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(propertiesRule, orRule, filterUuidRule)).build());
+        filterService.createFilter(identifierListFilter);
+        filterService.createFilter(expertFilter);
+
+        Map<UUID, UUID> newFilterIds = filterService.duplicateFilters(List.of(expertFilter.getId(), identifierListFilter.getId()));
+
+        assertThat(newFilterIds).containsOnlyKeys(expertFilter.getId(), identifierListFilter.getId());
+        AbstractFilter duplicatedExpertFilter = filterService.getFilter(newFilterIds.get(expertFilter.getId())).orElseThrow();
+        Assertions.assertThat((ExpertFilter) duplicatedExpertFilter).recursivelyEquals(expertFilter, "id", "modificationDate", "topologyKind");
+        AbstractFilter duplicatedIdentifierListFilter = filterService.getFilter(newFilterIds.get(identifierListFilter.getId())).orElseThrow();
+        assertThat(duplicatedIdentifierListFilter).usingRecursiveComparison().ignoringFields("id", "modificationDate")
+            .isEqualTo(identifierListFilter);
+
+        // the copies do not share their rows with the source filters
+        filterService.deleteFilters(List.of(expertFilter.getId(), identifierListFilter.getId()));
+        Assertions.assertThat((ExpertFilter) filterService.getFilter(newFilterIds.get(expertFilter.getId())).orElseThrow())
+            .recursivelyEquals(expertFilter, "id", "modificationDate", "topologyKind");
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.filter.server.repositories.FilterInfos;
+import org.gridsuite.filter.server.repositories.expertfilter.ExpertFilterRepository;
+import org.gridsuite.filter.server.repositories.identifierlistfilter.IdentifierListFilterRepository;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The duplication statements themselves only run on PostgreSQL, see {@link PostgresFilterDuplicationTest}:
+ * their repositories are mocked here.
+ */
+class RepositoryServiceTest {
+
+    private final IdentifierListFilterRepository identifierListFilterRepository = mock(IdentifierListFilterRepository.class);
+
+    private final ExpertFilterRepository expertFilterRepository = mock(ExpertFilterRepository.class);
+
+    private final RepositoryService repositoryService = new RepositoryService(identifierListFilterRepository, expertFilterRepository,
+        new FilterCache(10, Duration.ofMinutes(1)), mock(PlatformTransactionManager.class), new FilterMetrics(new SimpleMeterRegistry()),
+        "postgresql", false);
+
+    @Test
+    void testFiltersAreDuplicatedWithOneStatementPerRepository() {
+        UUID identifierListFilterId1 = UUID.randomUUID();
+        UUID identifierListFilterId2 = UUID.randomUUID();
+        UUID expertFilterId = UUID.randomUUID();
+        UUID notFoundFilterId = UUID.randomUUID();
+        List<UUID> ids = List.of(identifierListFilterId1, expertFilterId, identifierListFilterId2, notFoundFilterId);
+        when(identifierListFilterRepository.findFiltersInfosById(ids))
+            .thenReturn(List.of(filterInfos(identifierListFilterId1), filterInfos(identifierListFilterId2)));
+        when(expertFilterRepository.findFiltersInfosById(ids)).thenReturn(List.of(filterInfos(expertFilterId)));
+
+        Map<UUID, UUID> newFilterIds = repositoryService.duplicateFiltersInDatabase(ids);
+
+        assertThat(newFilterIds).containsOnlyKeys(identifierListFilterId1, identifierListFilterId2, expertFilterId);
+        assertThat(newFilterIds.values()).doesNotHaveDuplicates().doesNotContainAnyElementsOf(ids);
+        ArgumentCaptor<UUID[]> sourceIds = ArgumentCaptor.forClass(UUID[].class);
+        ArgumentCaptor<UUID[]> targetIds = ArgumentCaptor.forClass(UUID[].class);
+        verify(identifierListFilterRepository).duplicateFilters(sourceIds.capture(), targetIds.capture());
+        assertThat(sourceIds.getValue()).containsExactly(identifierListFilterId1, identifierListFilterId2);
+        assertThat(targetIds.getValue()).containsExactly(newFilterIds.get(identifierListFilterId1), newFilterIds.get(identifierListFilterId2));
+        verify(expertFilterRepository).duplicateFilters(sourceIds.capture(), targetIds.capture());
+        assertThat(sourceIds.getValue()).containsExactly(expertFilterId);
+        assertThat(targetIds.getValue()).containsExactly(newFilterIds.get(expertFilterId));
+    }
+
+    @Test
+    void testNoStatementForARepositoryWithoutFiltersToDuplicate() {
+        UUID expertFilterId = UUID.randomUUID();
+        when(identifierListFilterRepository.findFiltersInfosById(anyList())).thenReturn(List.of());
+        when(expertFilterRepository.findFiltersInfosById(anyList())).thenReturn(List.of(filterInfos(expertFilterId)));
+
+        assertThat(repositoryService.duplicateFiltersInDatabase(List.of(expertFilterId))).containsOnlyKeys(expertFilterId);
+        verify(identifierListFilterRepository, never()).duplicateFilters(any(), any());
+    }
+
+    private static FilterInfos filterInfos(UUID id) {
+        FilterInfos filterInfos = mock(FilterInfos.class);
+        when(filterInfos.getId()).thenReturn(id);
+        when(filterInfos.getEquipmentType()).thenReturn(EquipmentType.GENERATOR);
+        return filterInfos;
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server;
+
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.expertfilter.expertrule.*;
+import org.gridsuite.filter.server.entities.expertfilter.ExpertFilterEntity;
+import org.gridsuite.filter.server.repositories.expertfilter.ExpertFilterRepository;
+import org.gridsuite.filter.server.repositories.proxies.expertfiler.ExpertFilterRepositoryProxy;
+import org.gridsuite.filter.server.repositories.proxies.expertfiler.ExpertRulesJson;
+import org.gridsuite.filter.server.utils.assertions.Assertions;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "filter-server.expert-filters.serialized-rules=true")
+class SerializedExpertRulesTest {
+
+    @Autowired
+    private FilterService filterService;
+
+    @Autowired
+    private ExpertFilterRepository expertFilterRepository;
+
+    @AfterEach
+    void tearDown() {
+        expertFilterRepository.deleteAll();
+    }
+
+    private static ExpertFilter createExpertFilter(UUID id, double nominalVoltage) {
+        PropertiesExpertRule propertiesRule = PropertiesExpertRule.builder().propertyName("region").propertyValues(List.of("north", "south"))
+            .field(FieldType.FREE_PROPERTIES).operator(OperatorType.IN).build();
+        NumberExpertRule numberRule = NumberExpertRule.builder().value(nominalVoltage)
+            .field(FieldType.NOMINAL_VOLTAGE).operator(OperatorType.GREATER).build();
+        EnumExpertRule enumRule = EnumExpertRule.builder().values(new HashSet<>(Set.of("FR", "BE")))
+            .field(FieldType.COUNTRY).operator(OperatorType.IN).build();
+        CombinatorExpertRule orRule = CombinatorExpertRule.builder().combinator(CombinatorType.OR).rules(List.of(numberRule, enumRule)).build();
+        return new ExpertFilter(id, new Date(), EquipmentType.GENERATOR,
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(propertiesRule, orRule)).build());
+    }
+
+    @Test
+    void testRulesTreesAreStoredSerialized() {
+        UUID filterId = UUID.randomUUID();
+        ExpertFilter expertFilter = createExpertFilter(filterId, 63.);
+        filterService.createFilter(expertFilter);
+
+        // a single row, without rule rows
+        ExpertFilterEntity entity = expertFilterRepository.findById(filterId).orElseThrow();
+        assertThat(entity.getRules()).isNull();
+        assertThat(entity.getRulesJson()).isNotNull();
+        Assertions.assertThat(ExpertRulesJson.read(entity.getRulesJson())).recursivelyEquals(expertFilter.getRules());
+
+        AbstractFilter loadedFilter = filterService.getFilter(filterId).orElseThrow();
+        Assertions.assertThat((ExpertFilter) loadedFilter).recursivelyEquals(expertFilter, "topologyKind");
+
+        ExpertFilter updatedFilter = createExpertFilter(filterId, 225.);
+        filterService.updateFilter(filterId, updatedFilter, null);
+        Assertions.assertThat((ExpertFilter) filterService.getFilters(List.of(filterId)).getFirst()).recursivelyEquals(updatedFilter, "topologyKind");
+    }
+
+    @Test
+    void testFilterWithoutRules() {
+        ExpertFilterEntity entity = ExpertFilterEntity.builder().id(UUID.randomUUID()).modificationDate(new Date())
+            .equipmentType(EquipmentType.GENERATOR).build();
+
+        for (boolean serializedRules : List.of(true, false)) {
+            AbstractFilter filter = new ExpertFilterRepositoryProxy(expertFilterRepository, serializedRules).toDto(entity);
+            assertThat(((ExpertFilter) filter).getRules()).isNull();
+        }
+        assertThat(ExpertRulesJson.write(null)).isNull();
+        assertThat(ExpertRulesJson.read(null)).isNull();
+    }
+}
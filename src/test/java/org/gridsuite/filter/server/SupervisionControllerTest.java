@@ -16,8 +16,10 @@ import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
 import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.identifierlistfilter.FilterAttributes;
 import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
 import org.gridsuite.filter.identifierlistfilter.IdentifierListFilterEquipmentAttributes;
+import org.gridsuite.filter.server.dto.FilterAttributesPage;
 import org.gridsuite.filter.utils.EquipmentType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,12 +30,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -108,6 +114,61 @@ class SupervisionControllerTest {
         assertEquals(filterId, list.get(0).getId());
     }
 
+    @Test
+    void testFiltersPages() throws Exception {
+        List<UUID> filterIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID filterId = UUID.randomUUID();
+            filterIds.add(filterId);
+            filterService.createFilter(new IdentifierListFilter(filterId, new Date(), EquipmentType.GENERATOR,
+                List.of(new IdentifierListFilterEquipmentAttributes("GEN", 1d))));
+        }
+
+        List<UUID> pagedIds = new ArrayList<>();
+        FilterAttributesPage page = getFiltersPage(null, 2);
+        while (page.nextCursor() != null) {
+            assertEquals(2, page.filters().size());
+            page.filters().forEach(filter -> pagedIds.add(filter.getId()));
+            page = getFiltersPage(page.nextCursor(), 2);
+        }
+        page.filters().forEach(filter -> pagedIds.add(filter.getId()));
+
+        assertEquals(filterIds.stream().map(UUID::toString).sorted().toList(), pagedIds.stream().map(UUID::toString).toList());
+
+        mvc.perform(get(SUPERVISION_URL_TEMPLATE + "/page").param("size", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFiltersStream() throws Exception {
+        UUID filterId = UUID.randomUUID();
+        filterService.createFilter(new IdentifierListFilter(filterId, new Date(), EquipmentType.LOAD,
+            List.of(new IdentifierListFilterEquipmentAttributes("LOAD", null))));
+
+        MvcResult result = mvc.perform(get(SUPERVISION_URL_TEMPLATE + "/stream"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String[] lines = mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(1, lines.length);
+        FilterAttributes filterAttributes = objectMapper.readValue(lines[0], FilterAttributes.class);
+        assertEquals(filterId, filterAttributes.getId());
+        assertEquals(EquipmentType.LOAD, filterAttributes.getEquipmentType());
+        assertNull(getFiltersPage(filterId, 10).nextCursor());
+    }
+
+    private FilterAttributesPage getFiltersPage(UUID after, int size) throws Exception {
+        var requestBuilder = get(SUPERVISION_URL_TEMPLATE + "/page").param("size", String.valueOf(size));
+        if (after != null) {
+            requestBuilder.param("after", after.toString());
+        }
+        String response = mvc.perform(requestBuilder)
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, FilterAttributesPage.class);
+    }
+
     private List<AbstractFilter> getAllFilters() throws Exception {
         String response = mvc.perform(get(SUPERVISION_URL_TEMPLATE)
                         .contentType(APPLICATION_JSON))
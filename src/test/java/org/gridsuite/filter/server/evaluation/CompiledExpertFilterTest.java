@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.filter.server.evaluation;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.filter.FilterLoader;
+import org.gridsuite.filter.expertfilter.ExpertFilter;
+import org.gridsuite.filter.expertfilter.expertrule.*;
+import org.gridsuite.filter.identifierlistfilter.IdentifiableAttributes;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
+import org.gridsuite.filter.identifierlistfilter.IdentifierListFilterEquipmentAttributes;
+import org.gridsuite.filter.utils.EquipmentType;
+import org.gridsuite.filter.utils.FilterServiceUtils;
+import org.gridsuite.filter.utils.expertfilter.CombinatorType;
+import org.gridsuite.filter.utils.expertfilter.FieldType;
+import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledExpertFilterTest {
+
+    private static final FilterLoader NO_FILTER_LOADER = uuids -> List.of();
+
+    @Test
+    void testCompiledEvaluationMatchesRuleTreeEvaluation() {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
+        network.getGenerator("GEN").setProperty("region", "north");
+
+        AbstractExpertRule propertiesRule = PropertiesExpertRule.builder().field(FieldType.FREE_PROPERTIES)
+            .operator(OperatorType.IN).propertyName("region").propertyValues(List.of("north")).build();
+        AbstractExpertRule targetPRule = NumberExpertRule.builder().field(FieldType.TARGET_P)
+            .operator(OperatorType.GREATER).value(0.).build();
+        AbstractExpertRule idRule = StringExpertRule.builder().field(FieldType.ID)
+            .operator(OperatorType.IN).values(Set.of("GEN", "GEN2")).build();
+        AbstractExpertRule energySourceRule = EnumExpertRule.builder().field(FieldType.ENERGY_SOURCE)
+            .operator(OperatorType.EQUALS).value("OTHER").build();
+        AbstractExpertRule notInIdRule = StringExpertRule.builder().field(FieldType.ID)
+            .operator(OperatorType.NOT_IN).values(Set.of("GEN2")).build();
+        AbstractExpertRule nestedAnd = CombinatorExpertRule.builder().combinator(CombinatorType.AND)
+            .rules(List.of(idRule, energySourceRule)).build();
+        AbstractExpertRule nestedOr = CombinatorExpertRule.builder().combinator(CombinatorType.OR)
+            .rules(List.of(propertiesRule, nestedAnd)).build();
+
+        for (AbstractExpertRule rules : List.of(
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(propertiesRule, targetPRule, nestedAnd)).build(),
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(nestedOr, targetPRule)).build(),
+            CombinatorExpertRule.builder().combinator(CombinatorType.OR).rules(List.of(nestedOr, targetPRule)).build(),
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of(notInIdRule, targetPRule)).build(),
+            CombinatorExpertRule.builder().combinator(CombinatorType.AND).rules(List.of()).build())) {
+            ExpertFilter filter = new ExpertFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR, rules);
+
+            List<IdentifiableAttributes> expected = FilterServiceUtils.getIdentifiableAttributes(filter, network, NO_FILTER_LOADER);
+            List<IdentifiableAttributes> compiled = CompiledExpertFilter.compile(filter).evaluate(network, NO_FILTER_LOADER);
+
+            assertThat(compiled).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void testSinglePassEvaluationOfSeveralFilters() {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
+        List<CompiledExpertFilter> filters = Stream.of("GEN", "GEN2", "UNKNOWN")
+            .map(id -> new ExpertFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+                StringExpertRule.builder().field(FieldType.ID).operator(OperatorType.EQUALS).value(id).build()))
+            .map(CompiledExpertFilter::compile)
+            .toList();
+
+        List<List<IdentifiableAttributes>> results = CompiledExpertFilter.evaluate(filters, network, NO_FILTER_LOADER, equipmentCount -> assertThat(equipmentCount).isEqualTo(network.getGeneratorCount()));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).extracting(IdentifiableAttributes::getId).containsExactly("GEN");
+        assertThat(results.get(1)).extracting(IdentifiableAttributes::getId).containsExactly("GEN2");
+        assertThat(results.get(2)).isEmpty();
+        for (int i = 0; i < filters.size(); i++) {
+            assertThat(filters.get(i).evaluate(network, NO_FILTER_LOADER)).usingRecursiveFieldByFieldElementComparator().isEqualTo(results.get(i));
+        }
+    }
+
+    @Test
+    void testFiltersMatchingTheSameIdentifiableShareItsAttributes() {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
+        List<CompiledExpertFilter> filters = Stream.of(
+                StringExpertRule.builder().field(FieldType.ID).operator(OperatorType.IN).values(Set.of("GEN", "GEN2")).build(),
+                StringExpertRule.builder().field(FieldType.ID).operator(OperatorType.EQUALS).value("GEN").build())
+            .map(rule -> CompiledExpertFilter.compile(new ExpertFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR, rule)))
+            .toList();
+
+        List<List<IdentifiableAttributes>> results = CompiledExpertFilter.evaluate(filters, network, NO_FILTER_LOADER, equipmentCount -> { });
+
+        IdentifiableAttributes generator = results.get(1).getFirst();
+        assertThat(generator.getId()).isEqualTo("GEN");
+        assertThat(results.get(0)).hasSize(2).anySatisfy(attributes -> assertThat(attributes).isSameAs(generator));
+    }
+
+    @Test
+    void testForEachMatchPassesTheMatchedIdentifiables() {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
+        CompiledExpertFilter filter = CompiledExpertFilter.compile(new ExpertFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+            StringExpertRule.builder().field(FieldType.ID).operator(OperatorType.IN).values(Set.of("GEN", "UNKNOWN")).build()));
+
+        List<String> matchedIds = new ArrayList<>();
+        long evaluatedEquipments = filter.forEachMatch(network, NO_FILTER_LOADER, identifiable -> matchedIds.add(identifiable.getId()));
+
+        assertThat(matchedIds).containsExactly("GEN");
+        assertThat(evaluatedEquipments).isEqualTo(network.getGeneratorCount());
+    }
+
+    @Test
+    void testIdentifierListMembershipMatchesRuleTreeEvaluation() {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
+        IdentifierListFilter generators = new IdentifierListFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+            List.of(new IdentifierListFilterEquipmentAttributes("GEN", 7d), new IdentifierListFilterEquipmentAttributes("UNKNOWN", null)));
+        IdentifierListFilter loads = new IdentifierListFilter(UUID.randomUUID(), new Date(), EquipmentType.LOAD,
+            List.of(new IdentifierListFilterEquipmentAttributes("LOAD", 1d)));
+        Map<UUID, AbstractFilter> filters = Map.of(generators.getId(), generators, loads.getId(), loads);
+        FilterLoader filterLoader = uuids -> uuids.stream().map(filters::get).filter(Objects::nonNull).toList();
+
+        for (OperatorType operator : List.of(OperatorType.IS_PART_OF, OperatorType.IS_NOT_PART_OF)) {
+            // the loads list is not indexed for a generators filter: the rule is evaluated as is
+            for (Set<String> filterIds : List.of(Set.of(generators.getId().toString()), Set.of(loads.getId().toString()),
+                Set.of(generators.getId().toString(), loads.getId().toString()))) {
+                ExpertFilter filter = new ExpertFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+                    FilterUuidExpertRule.builder().field(FieldType.ID).operator(operator).values(filterIds).build());
+
+                List<IdentifiableAttributes> expected = FilterServiceUtils.getIdentifiableAttributes(filter, network, filterLoader);
+                List<IdentifiableAttributes> compiled = CompiledExpertFilter.compile(filter).evaluate(network, filterLoader);
+
+                assertThat(compiled).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    void testIdentifierListIndex() {
+        IdentifierListIndex index = IdentifierListIndex.of(new IdentifierListFilter(UUID.randomUUID(), new Date(), EquipmentType.GENERATOR,
+            List.of(new IdentifierListFilterEquipmentAttributes("GEN", 7d), new IdentifierListFilterEquipmentAttributes("GEN2", null),
+                new IdentifierListFilterEquipmentAttributes("GEN", 9d))));
+
+        assertThat(index.contains("GEN")).isTrue();
+        assertThat(index.contains("GEN2")).isTrue();
+        assertThat(index.contains("LOAD")).isFalse();
+    }
+}
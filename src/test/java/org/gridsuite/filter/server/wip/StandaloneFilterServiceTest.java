@@ -199,7 +199,7 @@ class StandaloneFilterServiceTest {
 
     private IdentifierListFilterEntity identifierListFilterEntity(UUID id, EquipmentType type, String... equipmentIds) {
         List<IdentifierListFilterEquipmentEntity> equipment = Arrays.stream(equipmentIds)
-                .map(eqId -> IdentifierListFilterEquipmentEntity.builder().id(UUID.randomUUID()).equipmentId(eqId).build())
+                .map(eqId -> IdentifierListFilterEquipmentEntity.builder().equipmentId(eqId).build())
                 .map(IdentifierListFilterEquipmentEntity.class::cast)
                 .toList();
         return IdentifierListFilterEntity.builder().id(id).equipmentType(type).filterEquipmentEntityList(equipment)